@@ -7,7 +7,8 @@ export async function GET(request: NextRequest) {
 
     console.log("[v0] Users API - Fetching from backend")
 
-    const response = await fetch("http://localhost:8081/api/users", {
+    // The backend returns one page at a time; pass page/size through
+    const response = await fetch(`http://localhost:8081/api/users${request.nextUrl.search}`, {
       method: "GET",
       headers: {
         "Content-Type": "application/json",
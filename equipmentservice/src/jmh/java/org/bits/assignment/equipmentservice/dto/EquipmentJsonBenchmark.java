@@ -0,0 +1,68 @@
+package org.bits.assignment.equipmentservice.dto;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of EquipmentDTO listings, as written by the equipment endpoints.
+ * Output goes to a discarding stream so only serialization is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EquipmentJsonBenchmark {
+
+    @Param({"100", "10000"})
+    private int rows;
+
+    private ObjectWriter writer;
+    private List<EquipmentDTO> equipment;
+
+    @Setup
+    public void setUp() {
+        // Same defaults as the Boot-configured ObjectMapper (JSR-310 dates as ISO strings)
+        writer = Jackson2ObjectMapperBuilder.json().build().writerFor(List.class);
+        equipment = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            equipment.add(EquipmentDTO.builder()
+                    .id((long) i)
+                    .name("Microscope " + i)
+                    .category("Laboratory")
+                    .description("Compound microscope with LED illumination")
+                    .quantity(4)
+                    .available(2)
+                    .condition("good")
+                    .location("Lab " + (i % 20))
+                    .specifications(List.of("1000x magnification", "LED illumination", "Mechanical stage"))
+                    .usageInstructions("Handle with care")
+                    .lastMaintenance(LocalDate.now())
+                    .maintenanceInterval(90)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public void serializeList() throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), equipment);
+    }
+
+    @Benchmark
+    public byte[] serializeListToBytes() throws IOException {
+        return writer.writeValueAsBytes(equipment);
+    }
+}
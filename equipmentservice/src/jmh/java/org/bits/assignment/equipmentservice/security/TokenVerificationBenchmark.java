@@ -0,0 +1,93 @@
+package org.bits.assignment.equipmentservice.security;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * Cost of authenticating a request in JwtAuthFilter: a full RS256 verification (a token
+ * cache miss) against a TokenValidationCache hit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenVerificationBenchmark {
+
+    private static final String JWKS_URL = "http://auth/api/auth/jwks";
+
+    private JwtParser parser;
+    private TokenValidationCache tokenValidationCache;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+
+        RestTemplate restTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        server.expect(ExpectedCount.manyTimes(), requestTo(JWKS_URL))
+                .andRespond(withSuccess(jwks("k1", (RSAPublicKey) keyPair.getPublic()), MediaType.APPLICATION_JSON));
+        JwksKeyResolver resolver = new JwksKeyResolver(restTemplate, JWKS_URL, 0);
+
+        parser = Jwts.parserBuilder().setSigningKeyResolver(resolver).build();
+        tokenValidationCache = new TokenValidationCache(resolver, 10_000, new SimpleMeterRegistry());
+        token = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, "k1")
+                .setSubject("admin@example.com")
+                .claim("role", "ADMIN")
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1)))
+                .signWith(keyPair.getPrivate(), SignatureAlgorithm.RS256)
+                .compact();
+        tokenValidationCache.resolve(token);
+    }
+
+    @Benchmark
+    public Object verifySignature() {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public JwtPrincipal resolveCached() {
+        return tokenValidationCache.resolve(token);
+    }
+
+    private static String jwks(String kid, RSAPublicKey key) {
+        return "{\"keys\":[{\"kty\":\"RSA\",\"kid\":\"" + kid + "\",\"alg\":\"RS256\",\"use\":\"sig\","
+                + "\"n\":\"" + base64Url(key.getModulus()) + "\",\"e\":\"" + base64Url(key.getPublicExponent()) + "\"}]}";
+    }
+
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,88 @@
+package org.bits.assignment.equipmentservice.service.impl;
+
+import org.bits.assignment.equipmentservice.dto.ApprovalDTO;
+import org.bits.assignment.equipmentservice.dto.EquipmentDTO;
+import org.bits.assignment.equipmentservice.entity.Approval;
+import org.bits.assignment.equipmentservice.entity.Equipment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping for a listing-sized batch of equipment and approvals.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DtoMappingBenchmark {
+
+    @Param({"1000"})
+    private int rows;
+
+    private EquipmentServiceImpl equipmentService;
+    private ApprovalServiceImpl approvalService;
+    private List<Equipment> equipment;
+    private List<Approval> approvals;
+
+    @Setup
+    public void setUp() {
+        // The mappers touch no collaborators
+        equipmentService = new EquipmentServiceImpl(null, null, null, null);
+        approvalService = new ApprovalServiceImpl(null, null, null, null);
+        equipment = new ArrayList<>(rows);
+        approvals = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            equipment.add(Equipment.builder()
+                    .id((long) i)
+                    .name("Microscope " + i)
+                    .category("Laboratory")
+                    .description("Compound microscope with LED illumination")
+                    .quantity(4)
+                    .available(2)
+                    .condition("good")
+                    .location("Lab " + (i % 20))
+                    .specifications(List.of("1000x magnification", "LED illumination", "Mechanical stage"))
+                    .lastMaintenance(LocalDate.now())
+                    .maintenanceInterval(90)
+                    .build());
+            Approval approval = new Approval();
+            approval.setId((long) i);
+            approval.setUserId(String.valueOf(i % 500));
+            approval.setUserName("Student " + (i % 500));
+            approval.setEquipmentId(String.valueOf(i));
+            approval.setEquipmentName("Microscope " + i);
+            approval.setRequestDate(LocalDate.now());
+            approval.setReturnDate(LocalDate.now().plusDays(7));
+            approval.setStatus(Approval.Status.PENDING);
+            approval.setCreatedAt(LocalDate.now());
+            approvals.add(approval);
+        }
+    }
+
+    @Benchmark
+    public void equipmentToDTO(Blackhole blackhole) {
+        for (Equipment e : equipment) {
+            EquipmentDTO dto = equipmentService.toDTO(e);
+            blackhole.consume(dto);
+        }
+    }
+
+    @Benchmark
+    public void approvalToDTO(Blackhole blackhole) {
+        for (Approval approval : approvals) {
+            ApprovalDTO dto = approvalService.mapToDTO(approval);
+            blackhole.consume(dto);
+        }
+    }
+}
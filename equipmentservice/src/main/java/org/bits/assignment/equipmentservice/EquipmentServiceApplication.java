@@ -2,11 +2,14 @@ package org.bits.assignment.equipmentservice;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 
 /**
  * Main Spring Boot application entry point for the Equipment Service.
+ * R2DBC is only used by the reactive catalog (see reactive.ReactiveCatalogApplication).
  */
-@SpringBootApplication
+@SpringBootApplication(exclude = {R2dbcAutoConfiguration.class, R2dbcTransactionManagerAutoConfiguration.class})
 public class EquipmentServiceApplication {
     public static void main(String[] args) {
         SpringApplication.run(EquipmentServiceApplication.class, args);
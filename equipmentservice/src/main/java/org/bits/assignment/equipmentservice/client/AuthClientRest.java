@@ -1,23 +1,81 @@
 package org.bits.assignment.equipmentservice.client;
 
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.bits.assignment.equipmentservice.client.dto.UserValidationResponse;
+import org.bits.assignment.equipmentservice.exception.AuthServiceUnavailableException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Client for the user-service token validation endpoint.
+ *
+ * Calls go through the {@code authService} circuit breaker, and concurrent
+ * validations of the same token share a single in-flight HTTP call. Each call is timed
+ * as {@code auth.client.requests}, tagged with its outcome: success, client_error
+ * (e.g. an invalid token), unavailable (unreachable or circuit open) or error.
+ */
 @Service
 public class AuthClientRest {
 
     private final RestTemplate restTemplate;
+    private final CircuitBreaker circuitBreaker;
     private final String validateUrl;
+    private final ConcurrentMap<String, CompletableFuture<UserValidationResponse>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
 
-    public AuthClientRest(RestTemplate restTemplate, @Value("${auth.service.url}") String validateUrl) {
+    public AuthClientRest(RestTemplate restTemplate,
+                          CircuitBreaker authServiceCircuitBreaker,
+                          @Value("${auth.service.url}") String validateUrl,
+                          MeterRegistry meterRegistry) {
         this.restTemplate = restTemplate;
+        this.circuitBreaker = authServiceCircuitBreaker;
         this.validateUrl = validateUrl;
+        this.meterRegistry = meterRegistry;
     }
 
     public UserValidationResponse validateToken(String token) {
+        CompletableFuture<UserValidationResponse> call = new CompletableFuture<>();
+        CompletableFuture<UserValidationResponse> existing = inFlight.putIfAbsent(token, call);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            call.complete(circuitBreaker.executeSupplier(() -> exchange(token)));
+            outcome = "success";
+        } catch (CallNotPermittedException e) {
+            outcome = "unavailable";
+            call.completeExceptionally(new AuthServiceUnavailableException("Auth service circuit is open", e));
+        } catch (ResourceAccessException e) {
+            outcome = "unavailable";
+            call.completeExceptionally(new AuthServiceUnavailableException("Auth service unreachable", e));
+        } catch (HttpClientErrorException e) {
+            outcome = "client_error";
+            call.completeExceptionally(e);
+        } catch (RuntimeException e) {
+            call.completeExceptionally(e);
+        } finally {
+            inFlight.remove(token, call);
+            sample.stop(meterRegistry.timer("auth.client.requests", "outcome", outcome));
+        }
+        return await(call);
+    }
+
+    private UserValidationResponse exchange(String token) {
         HttpHeaders headers = new HttpHeaders();
         headers.set(HttpHeaders.AUTHORIZATION, token);
         HttpEntity<Void> request = new HttpEntity<>(headers);
@@ -27,4 +85,15 @@ public class AuthClientRest {
 
         return response.getBody();
     }
+
+    private static UserValidationResponse await(CompletableFuture<UserValidationResponse> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
 }
@@ -0,0 +1,54 @@
+package org.bits.assignment.equipmentservice.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * Caffeine-backed Spring caches for equipment catalog reads.
+ *
+ * Entries are evicted by EquipmentServiceImpl once equipment or stock changes commit.
+ * Each cache is wrapped in a GenerationCheckedCache, so a read that started before a
+ * commit cannot put its stale result back after the eviction; the TTL only bounds
+ * drift from writes this instance never sees.
+ * All caches record statistics, so hit ratios are published as {@code cache.gets} metrics.
+ * The cache advice runs outside the transaction advice, so a hit never takes a
+ * pooled connection.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    public static final String EQUIPMENT_BY_ID = "equipmentById";
+    public static final String EQUIPMENT_LIST = "equipmentList";
+    public static final String EQUIPMENT_BY_CATEGORY = "equipmentByCategory";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${equipment.cache.ttl-seconds:600}") long ttlSeconds,
+                                     @Value("${equipment.cache.max-items:10000}") long maxItems,
+                                     @Value("${equipment.cache.max-pages:1000}") long maxPages) {
+        Duration ttl = Duration.ofSeconds(ttlSeconds);
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected org.springframework.cache.Cache adaptCaffeineCache(String name, Cache<Object, Object> cache) {
+                return new GenerationCheckedCache(super.adaptCaffeineCache(name, cache));
+            }
+        };
+        cacheManager.setAllowNullValues(false);
+        cacheManager.registerCustomCache(EQUIPMENT_BY_ID,
+                Caffeine.newBuilder().maximumSize(maxItems).expireAfterWrite(ttl).recordStats().build());
+        cacheManager.registerCustomCache(EQUIPMENT_LIST,
+                Caffeine.newBuilder().maximumSize(1).expireAfterWrite(ttl).recordStats().build());
+        cacheManager.registerCustomCache(EQUIPMENT_BY_CATEGORY,
+                Caffeine.newBuilder().maximumSize(maxPages).expireAfterWrite(ttl).recordStats().build());
+        return cacheManager;
+    }
+}
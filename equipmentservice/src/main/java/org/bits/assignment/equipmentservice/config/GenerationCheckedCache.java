@@ -0,0 +1,102 @@
+package org.bits.assignment.equipmentservice.config;
+
+import org.springframework.cache.Cache;
+import org.springframework.lang.Nullable;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache decorator that refuses values loaded across an eviction.
+ *
+ * A reader that queried the database before a write committed can finish after the
+ * write's eviction and would otherwise put the old value back until the TTL expires.
+ * Every eviction bumps a generation counter; {@link #get(Object, Callable)} notes the
+ * generation before loading and drops the loaded value if it changed in the meantime.
+ * The check runs again after the put, so an eviction racing with the put also wins.
+ * Callers must load through {@code get(key, loader)}, i.e. {@code @Cacheable(sync = true)}.
+ */
+class GenerationCheckedCache implements Cache {
+
+    private final Cache delegate;
+    private final AtomicLong generation = new AtomicLong();
+
+    GenerationCheckedCache(Cache delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    @Nullable
+    public <T> T get(Object key, @Nullable Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = delegate.get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        long loadedAt = generation.get();
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        if (value != null && generation.get() == loadedAt) {
+            delegate.put(key, value);
+            if (generation.get() != loadedAt) {
+                delegate.evict(key);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        generation.incrementAndGet();
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        generation.incrementAndGet();
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        generation.incrementAndGet();
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        generation.incrementAndGet();
+        return delegate.invalidate();
+    }
+}
@@ -1,17 +1,83 @@
 package org.bits.assignment.equipmentservice.config;
 
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
 /**
  * Configuration providing a RestTemplate bean for performing HTTP requests
  * to external services.
+ *
+ * The template is backed by a pooled Apache HttpClient with keep-alive and
+ * bounded connect, read and pool-acquire timeouts, so a slow downstream
+ * service cannot hold request threads indefinitely.
  */
 @Configuration
 public class RestClientConfig {
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient httpClient(@Value("${auth.client.connect-timeout-ms}") long connectTimeoutMs,
+                                          @Value("${auth.client.read-timeout-ms}") long readTimeoutMs,
+                                          @Value("${auth.client.pool-acquire-timeout-ms}") long poolAcquireTimeoutMs,
+                                          @Value("${auth.client.max-connections}") int maxConnections) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolAcquireTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate restTemplate(CloseableHttpClient httpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+    }
+
+    /**
+     * Circuit breaker guarding calls to the user-service. Client errors (e.g. 401 for
+     * an invalid token) are answers, not failures, and do not count towards opening it.
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public CircuitBreaker authServiceCircuitBreaker(
+            @Value("${auth.client.circuit-breaker.failure-rate-threshold}") float failureRateThreshold,
+            @Value("${auth.client.circuit-breaker.open-state-ms}") long openStateMs,
+            @Value("${auth.client.read-timeout-ms}") long readTimeoutMs) {
+        return CircuitBreaker.of("authService", CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(readTimeoutMs / 2))
+                .slowCallRateThreshold(failureRateThreshold)
+                .slidingWindowSize(20)
+                .minimumNumberOfCalls(10)
+                .waitDurationInOpenState(Duration.ofMillis(openStateMs))
+                .ignoreExceptions(HttpClientErrorException.class)
+                .build());
     }
 }
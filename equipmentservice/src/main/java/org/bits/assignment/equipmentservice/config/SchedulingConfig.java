@@ -0,0 +1,12 @@
+package org.bits.assignment.equipmentservice.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs such as analytics reconciliation.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
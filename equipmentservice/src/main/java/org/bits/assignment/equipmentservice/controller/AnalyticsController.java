@@ -0,0 +1,67 @@
+package org.bits.assignment.equipmentservice.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.bits.assignment.equipmentservice.dto.ActivityDTO;
+import org.bits.assignment.equipmentservice.dto.AnalyticsStatsDTO;
+import org.bits.assignment.equipmentservice.dto.CategoryStatsDTO;
+import org.bits.assignment.equipmentservice.dto.DailyActivityDTO;
+import org.bits.assignment.equipmentservice.service.AnalyticsService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST controller for dashboard analytics.
+ *
+ * All figures are served from in-memory counters and never scan the database per request.
+ */
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+
+    /**
+     * Get headline dashboard statistics.
+     *
+     * @return 200 OK with an {@code AnalyticsStatsDTO}
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<AnalyticsStatsDTO> getStats() {
+        return ResponseEntity.ok(analyticsService.getStats());
+    }
+
+    /**
+     * Get the most recent activity, newest first.
+     *
+     * @return 200 OK with a list of {@code ActivityDTO}
+     */
+    @GetMapping("/activity")
+    public ResponseEntity<List<ActivityDTO>> getRecentActivity() {
+        return ResponseEntity.ok(analyticsService.getRecentActivity());
+    }
+
+    /**
+     * Get per-day request activity for the last 30 days, newest first.
+     *
+     * @return 200 OK with a list of {@code DailyActivityDTO}
+     */
+    @GetMapping("/activity/daily")
+    public ResponseEntity<List<DailyActivityDTO>> getDailyActivity() {
+        return ResponseEntity.ok(analyticsService.getDailyActivity());
+    }
+
+    /**
+     * Get stock totals per equipment category.
+     *
+     * @return 200 OK with a list of {@code CategoryStatsDTO}
+     */
+    @GetMapping("/categories")
+    public ResponseEntity<List<CategoryStatsDTO>> getCategoryStats() {
+        return ResponseEntity.ok(analyticsService.getCategoryStats());
+    }
+}
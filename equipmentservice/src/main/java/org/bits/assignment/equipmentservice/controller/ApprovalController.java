@@ -1,18 +1,24 @@
 package org.bits.assignment.equipmentservice.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.bits.assignment.equipmentservice.dto.ApprovalBatchRequestDTO;
+import org.bits.assignment.equipmentservice.dto.ApprovalBatchResultDTO;
 import org.bits.assignment.equipmentservice.dto.ApprovalDTO;
 import org.bits.assignment.equipmentservice.dto.ApprovalStatusUpdateDTO;
 import org.bits.assignment.equipmentservice.service.ApprovalService;
+import org.bits.assignment.equipmentservice.service.DataVersionService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
 /**
  * REST controller for managing approval requests.
  *
- * Provides endpoints to list approvals, filter by status, and approve/reject requests.
+ * Provides endpoints to list approvals, filter by status, and approve/reject requests
+ * individually or in batches. Listings carry a version ETag and answer 304 while
+ * no approval has changed.
  */
 @RestController
 @RequestMapping("/api/approvals")
@@ -24,25 +30,32 @@ public class ApprovalController {
      */
     private final ApprovalService approvalService;
 
+    /**
+     * Source of the approvals version used as the listing ETag.
+     */
+    private final DataVersionService dataVersionService;
+
     /**
      * Get all approvals.
      *
-     * @return list of all ApprovalDTO
+     * @return list of all ApprovalDTO, or 304 if the If-None-Match tag is current
      */
     @GetMapping
-    public ResponseEntity<List<ApprovalDTO>> getAllApprovals() {
-        return ResponseEntity.ok(approvalService.getAllApprovals());
+    public ResponseEntity<List<ApprovalDTO>> getAllApprovals(WebRequest webRequest) {
+        return ConditionalResponses.ifNoneMatch(webRequest, dataVersionService.approvalVersion(),
+                approvalService::getAllApprovals);
     }
 
     /**
      * Get approvals filtered by status.
      *
      * @param status approval status to filter by
-     * @return list of ApprovalDTO matching status
+     * @return list of ApprovalDTO matching status, or 304 if the If-None-Match tag is current
      */
     @GetMapping(params = "status")
-    public ResponseEntity<List<ApprovalDTO>> getApprovalsByStatus(@RequestParam String status) {
-        return ResponseEntity.ok(approvalService.getApprovalsByStatus(status));
+    public ResponseEntity<List<ApprovalDTO>> getApprovalsByStatus(@RequestParam String status, WebRequest webRequest) {
+        return ConditionalResponses.ifNoneMatch(webRequest, dataVersionService.approvalVersion(),
+                () -> approvalService.getApprovalsByStatus(status));
     }
 
     /**
@@ -73,4 +86,19 @@ public class ApprovalController {
                                               @RequestBody ApprovalStatusUpdateDTO dto) {
         return ResponseEntity.ok(approvalService.rejectRequest(id, dto.getStatus(), dto.getNotes()));
     }
+
+    /**
+     * Approve and/or reject many requests in one call.
+     *
+     * Each item carries its own decision and notes. Items that cannot be applied
+     * (unknown id, invalid decision, duplicate id) are reported individually and
+     * do not prevent the others from being applied.
+     *
+     * @param dto ApprovalBatchRequestDTO with the list of decisions
+     * @return one ApprovalBatchResultDTO per item, in request order
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<ApprovalBatchResultDTO>> batch(@RequestBody ApprovalBatchRequestDTO dto) {
+        return ResponseEntity.ok(approvalService.applyBatch(dto.getItems()));
+    }
 }
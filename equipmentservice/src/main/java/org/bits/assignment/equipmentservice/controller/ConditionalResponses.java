@@ -0,0 +1,30 @@
+package org.bits.assignment.equipmentservice.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * Helper for GET endpoints that honour If-None-Match against a version ETag.
+ */
+final class ConditionalResponses {
+
+    private ConditionalResponses() {
+    }
+
+    /**
+     * Answers 304 Not Modified when the client already holds {@code etag}, without
+     * calling {@code body}. Otherwise returns 200 with the body; clients are told to
+     * revalidate before reusing it.
+     *
+     * @return the response, or null once a 304 has been written
+     */
+    static <T> ResponseEntity<T> ifNoneMatch(WebRequest webRequest, String etag, Supplier<T> body) {
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(body.get());
+    }
+}
@@ -1,18 +1,34 @@
 package org.bits.assignment.equipmentservice.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import lombok.RequiredArgsConstructor;
 import org.bits.assignment.equipmentservice.dto.EquipmentCreateDTO;
 import org.bits.assignment.equipmentservice.dto.EquipmentDTO;
+import org.bits.assignment.equipmentservice.dto.EquipmentImportResultDTO;
+import org.bits.assignment.equipmentservice.dto.EquipmentPageDTO;
+import org.bits.assignment.equipmentservice.service.DataVersionService;
+import org.bits.assignment.equipmentservice.service.EquipmentImportService;
 import org.bits.assignment.equipmentservice.service.EquipmentService;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 /**
  * REST controller for managing equipment resources.
  *
- * Exposes CRUD endpoints and a search endpoint for equipment.
+ * Exposes CRUD endpoints, a search endpoint and a bulk import endpoint for equipment.
+ * Listing endpoints carry a version ETag and answer 304 while the catalog is unchanged.
  */
 @RestController
 @RequestMapping("/api/equipment")
@@ -20,15 +36,70 @@ import java.util.List;
 public class EquipmentController {
 
     private final EquipmentService equipmentService;
+    private final EquipmentImportService equipmentImportService;
+    private final DataVersionService dataVersionService;
+    private final ObjectMapper objectMapper;
 
     /**
      * Retrieve all equipment.
      *
-     * @return 200 OK with a list of {@code EquipmentDTO}
+     * @return 200 OK with a list of {@code EquipmentDTO}, or 304 if the If-None-Match tag is current
      */
     @GetMapping
-    public ResponseEntity<List<EquipmentDTO>> getAllEquipment() {
-        return ResponseEntity.ok(equipmentService.getAllEquipment());
+    public ResponseEntity<List<EquipmentDTO>> getAllEquipment(WebRequest webRequest) {
+        return ConditionalResponses.ifNoneMatch(webRequest, dataVersionService.equipmentVersion(),
+                equipmentService::getAllEquipment);
+    }
+
+    /**
+     * Retrieve one keyset page of equipment ordered by id.
+     *
+     * Pass the {@code nextCursor} of the previous page to continue; omit it for the first page.
+     * Either parameter selects paging; without {@code size} the configured default page size applies.
+     *
+     * @param size   optional page size (clamped to the configured maximum)
+     * @param cursor optional opaque continuation token
+     * @return 200 OK with an {@code EquipmentPageDTO}, or 304 if the If-None-Match tag is current
+     */
+    @GetMapping(params = "size")
+    public ResponseEntity<EquipmentPageDTO> getEquipmentPage(@RequestParam(required = false) Integer size,
+                                                             @RequestParam(required = false) String cursor,
+                                                             WebRequest webRequest) {
+        return ConditionalResponses.ifNoneMatch(webRequest, dataVersionService.equipmentVersion(),
+                () -> equipmentService.getEquipmentPage(cursor, size));
+    }
+
+    // A mapping's params are all required, so a cursor without a size needs its own mapping
+    @GetMapping(params = {"cursor", "!size"})
+    public ResponseEntity<EquipmentPageDTO> getEquipmentPageAfter(@RequestParam String cursor,
+                                                                  WebRequest webRequest) {
+        return getEquipmentPage(null, cursor, webRequest);
+    }
+
+    /**
+     * Stream all equipment as newline-delimited JSON, one {@code EquipmentDTO} per line.
+     *
+     * Rows are written as they are read from the database cursor, so memory use
+     * does not grow with the size of the catalog.
+     *
+     * @return 200 OK with an {@code application/x-ndjson} body
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamEquipment() {
+        ObjectWriter writer = objectMapper.writerFor(EquipmentDTO.class);
+        StreamingResponseBody body = outputStream -> {
+            OutputStream out = new BufferedOutputStream(outputStream);
+            equipmentService.streamAllEquipment(dto -> {
+                try {
+                    writer.writeValue(out, dto);
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.flush();
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
     /**
@@ -45,17 +116,23 @@ public class EquipmentController {
     /**
      * Search equipment by query string and/or category.
      *
-     * Both parameters are optional; when omitted, the service may return
-     * a wider result set depending on implementation.
+     * Both parameters are optional; when omitted, a page of all equipment is returned.
+     * Results matching the query are ranked, with name matches ahead of description matches.
      *
-     * @param q       optional search query (e.g., name or description)
+     * @param q        optional search query (e.g., name or description)
      * @param category optional equipment category
-     * @return 200 OK with a list of matching {@code EquipmentDTO}
+     * @param page     zero-based page index (default 0)
+     * @param size     optional page size
+     * @return 200 OK with a page of matching {@code EquipmentDTO}, or 304 if the If-None-Match tag is current
      */
     @GetMapping("/search")
     public ResponseEntity<List<EquipmentDTO>> searchEquipment(@RequestParam(required = false) String q,
-                                                              @RequestParam(required = false) String category) {
-        return ResponseEntity.ok(equipmentService.searchEquipment(q, category));
+                                                              @RequestParam(required = false) String category,
+                                                              @RequestParam(defaultValue = "0") int page,
+                                                              @RequestParam(required = false) Integer size,
+                                                              WebRequest webRequest) {
+        return ConditionalResponses.ifNoneMatch(webRequest, dataVersionService.equipmentVersion(),
+                () -> equipmentService.searchEquipment(q, category, page, size));
     }
 
     /**
@@ -69,6 +146,47 @@ public class EquipmentController {
         return ResponseEntity.ok(equipmentService.createEquipment(dto));
     }
 
+    /**
+     * Bulk-create equipment from a JSON array of creation payloads sent as the request body.
+     *
+     * The body is parsed as a stream; invalid rows are skipped and listed in the result.
+     *
+     * @param body raw request body
+     * @return 200 OK with an {@code EquipmentImportResultDTO}
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<EquipmentImportResultDTO> importJson(InputStream body) {
+        return ResponseEntity.ok(equipmentImportService.importJson(body));
+    }
+
+    /**
+     * Bulk-create equipment from CSV sent as the request body. The header row names the
+     * columns; multiple specifications in one cell are separated by ';'.
+     *
+     * @param body raw request body
+     * @return 200 OK with an {@code EquipmentImportResultDTO}
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<EquipmentImportResultDTO> importCsv(InputStream body) {
+        return ResponseEntity.ok(equipmentImportService.importCsv(body));
+    }
+
+    /**
+     * Bulk-create equipment from an uploaded file. Files named {@code *.csv} or sent as
+     * {@code text/csv} are read as CSV, anything else as a JSON array.
+     *
+     * @param file uploaded file
+     * @return 200 OK with an {@code EquipmentImportResultDTO}
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<EquipmentImportResultDTO> importFile(@RequestParam("file") MultipartFile file) throws IOException {
+        boolean csv = "text/csv".equals(file.getContentType())
+                || (file.getOriginalFilename() != null && file.getOriginalFilename().toLowerCase().endsWith(".csv"));
+        try (InputStream in = file.getInputStream()) {
+            return ResponseEntity.ok(csv ? equipmentImportService.importCsv(in) : equipmentImportService.importJson(in));
+        }
+    }
+
     /**
      * Update an existing equipment record.
      *
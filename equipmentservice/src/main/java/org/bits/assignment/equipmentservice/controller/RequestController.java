@@ -4,6 +4,8 @@ import lombok.RequiredArgsConstructor;
 import org.bits.assignment.equipmentservice.dto.RequestCreateDTO;
 import org.bits.assignment.equipmentservice.dto.RequestDTO;
 import org.bits.assignment.equipmentservice.dto.RequestStatusUpdateDTO;
+import org.bits.assignment.equipmentservice.dto.UserRequestCountsDTO;
+import org.bits.assignment.equipmentservice.dto.UserRequestCountsQueryDTO;
 import org.bits.assignment.equipmentservice.service.RequestService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -32,6 +34,20 @@ public class RequestController {
         return ResponseEntity.ok(requestService.getRequestsByUserId(userId));
     }
 
+    /**
+     * Count active requests and borrows for a set of users in one call.
+     *
+     * Every requested user id appears in the result, with zero counts if the user has no
+     * requests. Restricted to admins by SecurityConfig.
+     *
+     * @param dto payload naming the user ids (at most requests.counts.max-user-ids)
+     * @return 200 OK with one UserRequestCountsDTO per distinct user id
+     */
+    @PostMapping("/counts")
+    public ResponseEntity<List<UserRequestCountsDTO>> getCountsByUserIds(@RequestBody UserRequestCountsQueryDTO dto) {
+        return ResponseEntity.ok(requestService.getCountsByUserIds(dto.getUserIds()));
+    }
+
     /**
      * Create a new request.
      *
@@ -48,7 +64,7 @@ public class RequestController {
      *
      * @param id  the id of the request to update
      * @param dto payload containing the new status
-     * @return 200 OK with the updated RequestDTO
+     * @return 200 OK with the updated RequestDTO, or 409 if the request cannot move to that status
      */
     @PatchMapping("/{id}/status")
     public ResponseEntity<RequestDTO> updateStatus(@PathVariable Long id,
@@ -0,0 +1,24 @@
+package org.bits.assignment.equipmentservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * DTO representing one entry of the recent activity log,
+ * e.g. type {@code request_created} with a human readable description.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ActivityDTO {
+    private String id;
+    private String type;
+    private String user;
+    private String description;
+    private Instant timestamp;
+}
@@ -0,0 +1,23 @@
+package org.bits.assignment.equipmentservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO with the headline numbers for the admin dashboard.
+ * {@code usersCount} is the number of distinct users who have made a request.
+ * {@code approvalRate} is the percentage of decided requests that were approved.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AnalyticsStatsDTO {
+    private long totalEquipment;
+    private long activeRequests;
+    private long usersCount;
+    private double approvalRate;
+    private long borrowsThisMonth;
+}
@@ -0,0 +1,17 @@
+package org.bits.assignment.equipmentservice.dto;
+
+import lombok.Data;
+
+/**
+ * One decision within a batch approval request.
+ *
+ * <p>`decision` is "APPROVED" or "REJECTED". `reason` is recorded for rejections only;
+ * `notes` may contain optional reviewer comments.
+ */
+@Data
+public class ApprovalBatchItemDTO {
+    private Long id;
+    private String decision; // APPROVED or REJECTED
+    private String reason;
+    private String notes;
+}
@@ -0,0 +1,13 @@
+package org.bits.assignment.equipmentservice.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO carrying a list of approval decisions to apply in one call.
+ */
+@Data
+public class ApprovalBatchRequestDTO {
+    private List<ApprovalBatchItemDTO> items;
+}
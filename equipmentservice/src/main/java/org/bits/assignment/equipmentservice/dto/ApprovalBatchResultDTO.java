@@ -0,0 +1,26 @@
+package org.bits.assignment.equipmentservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one item of a batch approval request.
+ * On success `status` holds the new approval status; on failure `error` explains why
+ * the item was skipped. Other items in the batch are unaffected by a failure.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApprovalBatchResultDTO {
+    private Long id;
+    private boolean success;
+    private String status;
+    private String error;
+
+    public static ApprovalBatchResultDTO failed(Long id, String error) {
+        return ApprovalBatchResultDTO.builder().id(id).success(false).error(error).build();
+    }
+}
@@ -0,0 +1,21 @@
+package org.bits.assignment.equipmentservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO with stock totals for one equipment category.
+ * {@code count} is the total quantity; {@code borrowed} is the part of it currently on loan.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CategoryStatsDTO {
+    private String category;
+    private long count;
+    private long available;
+    private long borrowed;
+}
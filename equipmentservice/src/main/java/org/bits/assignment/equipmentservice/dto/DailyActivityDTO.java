@@ -0,0 +1,22 @@
+package org.bits.assignment.equipmentservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * DTO with the number of requests created, approved and returned on one day.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyActivityDTO {
+    private LocalDate date;
+    private long requestsCreated;
+    private long requestsApproved;
+    private long requestsReturned;
+}
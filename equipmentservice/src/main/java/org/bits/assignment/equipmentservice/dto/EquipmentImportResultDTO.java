@@ -0,0 +1,24 @@
+package org.bits.assignment.equipmentservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Summary of a bulk equipment import: rows stored, rows rejected with reasons
+ * (capped), and the achieved throughput.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EquipmentImportResultDTO {
+    private long imported;
+    private long rejected;
+    private List<String> errors;
+    private long elapsedMs;
+    private double rowsPerSecond;
+}
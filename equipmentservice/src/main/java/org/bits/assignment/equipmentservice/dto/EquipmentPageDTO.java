@@ -0,0 +1,22 @@
+package org.bits.assignment.equipmentservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO representing one keyset page of equipment.
+ * {@code nextCursor} is an opaque continuation token; it is null on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EquipmentPageDTO {
+    private List<EquipmentDTO> items;
+    private int size;
+    private String nextCursor;
+}
@@ -0,0 +1,21 @@
+package org.bits.assignment.equipmentservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO carrying per-user request counts.
+ * activeRequests counts pending and checked-out requests; totalBorrows counts every
+ * request that resulted in a borrow, returned or not.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserRequestCountsDTO {
+    private String userId;
+    private long activeRequests;
+    private long totalBorrows;
+}
@@ -22,7 +22,8 @@ import java.time.LocalDate;
 public class Approval {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "approvals_id_seq")
+    @SequenceGenerator(name = "approvals_id_seq", sequenceName = "approvals_id_seq", allocationSize = 50)
     private Long id;
 
     private String userId;
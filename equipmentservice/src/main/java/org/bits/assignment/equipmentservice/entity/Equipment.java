@@ -23,13 +23,20 @@ import java.util.List;
 public class Equipment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence ids let Hibernate batch inserts; the sequence steps by the allocation size
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "equipment_id_seq")
+    @SequenceGenerator(name = "equipment_id_seq", sequenceName = "equipment_id_seq", allocationSize = 50)
     private Long id;
 
     private String name;
     private String category;
     private String description;
+    // Stock columns are written on insert only; later changes go through the
+    // conditional updates in EquipmentRepository so concurrent reservations (a request
+    // moving to APPROVED) cannot oversell
+    @Column(updatable = false)
     private int quantity;
+    @Column(updatable = false)
     private int available;
     private String condition;
     private String location;
@@ -22,7 +22,8 @@ import java.time.LocalDate;
 public class Request {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "requests_id_seq")
+    @SequenceGenerator(name = "requests_id_seq", sequenceName = "requests_id_seq", allocationSize = 50)
     private Long id;
 
     private String userId;
@@ -40,6 +41,41 @@ public class Request {
     private LocalDate createdAt;
 
     public enum Status {
-        PENDING, APPROVED, REJECTED, RETURNED, OVERDUE
+        PENDING, APPROVED, REJECTED, RETURNED, OVERDUE;
+
+        /**
+         * Whether a request in this status has a unit of equipment checked out.
+         */
+        public boolean holdsStock() {
+            return this == APPROVED || this == OVERDUE;
+        }
+
+        /**
+         * Whether the request is still open: awaiting a decision or checked out.
+         */
+        public boolean isActive() {
+            return this == PENDING || holdsStock();
+        }
+
+        /**
+         * Whether the request resulted in a borrow, whether or not it has been returned.
+         */
+        public boolean countsAsBorrow() {
+            return holdsStock() || this == RETURNED;
+        }
+
+        /**
+         * Whether a request may move from this status to {@code next}: a pending request is
+         * approved or rejected, an approved one is returned or becomes overdue, and an
+         * overdue one is returned. REJECTED and RETURNED are final.
+         */
+        public boolean canTransitionTo(Status next) {
+            return switch (this) {
+                case PENDING -> next == APPROVED || next == REJECTED;
+                case APPROVED -> next == RETURNED || next == OVERDUE;
+                case OVERDUE -> next == RETURNED;
+                case REJECTED, RETURNED -> false;
+            };
+        }
     }
 }
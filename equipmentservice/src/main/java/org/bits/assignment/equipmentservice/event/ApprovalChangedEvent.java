@@ -0,0 +1,12 @@
+package org.bits.assignment.equipmentservice.event;
+
+import org.bits.assignment.equipmentservice.entity.Approval;
+
+/**
+ * Published after an approval is approved or rejected, individually or in a batch.
+ *
+ * @param approvalId id of the affected approval
+ * @param status     status after the change
+ */
+public record ApprovalChangedEvent(Long approvalId, Approval.Status status) {
+}
@@ -0,0 +1,17 @@
+package org.bits.assignment.equipmentservice.event;
+
+/**
+ * Published after an equipment item is created, updated or deleted.
+ *
+ * @param equipmentId id of the affected item
+ * @param before      stock snapshot before the change, or null on create
+ * @param after       stock snapshot after the change, or null on delete
+ */
+public record EquipmentChangedEvent(Long equipmentId, StockSnapshot before, StockSnapshot after) {
+
+    /**
+     * The parts of an equipment row that aggregate views depend on.
+     */
+    public record StockSnapshot(String category, int quantity, int available) {
+    }
+}
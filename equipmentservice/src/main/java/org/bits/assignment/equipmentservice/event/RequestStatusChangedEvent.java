@@ -0,0 +1,25 @@
+package org.bits.assignment.equipmentservice.event;
+
+import org.bits.assignment.equipmentservice.entity.Request;
+
+import java.time.LocalDate;
+
+/**
+ * Published after a request is created or its status changes.
+ *
+ * @param previous status before the change, or null when the request was just created
+ * @param current  status after the change
+ */
+public record RequestStatusChangedEvent(Long requestId,
+                                        String userId,
+                                        String equipmentId,
+                                        String equipmentName,
+                                        LocalDate requestDate,
+                                        Request.Status previous,
+                                        Request.Status current) {
+
+    public static RequestStatusChangedEvent of(Request request, Request.Status previous) {
+        return new RequestStatusChangedEvent(request.getId(), request.getUserId(), request.getEquipmentId(),
+                request.getEquipmentName(), request.getRequestDate(), previous, request.getStatus());
+    }
+}
@@ -0,0 +1,10 @@
+package org.bits.assignment.equipmentservice.event;
+
+/**
+ * Published after one batch of the overdue sweep moved approved requests to OVERDUE.
+ * The requests are updated in bulk, so only the count is known.
+ *
+ * @param count number of requests marked overdue
+ */
+public record RequestsMarkedOverdueEvent(int count) {
+}
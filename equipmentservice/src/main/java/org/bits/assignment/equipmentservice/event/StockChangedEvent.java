@@ -0,0 +1,11 @@
+package org.bits.assignment.equipmentservice.event;
+
+/**
+ * Published after units of an equipment item are reserved or released.
+ *
+ * @param equipmentId id of the affected item
+ * @param category    category of the item
+ * @param delta       change in available units (negative for a reservation)
+ */
+public record StockChangedEvent(Long equipmentId, String category, int delta) {
+}
@@ -0,0 +1,8 @@
+package org.bits.assignment.equipmentservice.exception;
+
+/**
+ * Exception thrown when the user-service cannot be reached or its circuit breaker is open.
+ */
+public class AuthServiceUnavailableException extends RuntimeException {
+    public AuthServiceUnavailableException(String msg, Throwable cause){ super(msg, cause); }
+}
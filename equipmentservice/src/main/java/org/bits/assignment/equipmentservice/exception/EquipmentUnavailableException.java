@@ -0,0 +1,9 @@
+package org.bits.assignment.equipmentservice.exception;
+
+/**
+ * Exception thrown when an equipment item has no units left to reserve,
+ * or a stock change would drop below the units currently on loan.
+ */
+public class EquipmentUnavailableException extends RuntimeException {
+    public EquipmentUnavailableException(String msg){ super(msg); }
+}
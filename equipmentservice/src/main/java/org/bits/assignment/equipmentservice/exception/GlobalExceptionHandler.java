@@ -6,7 +6,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 /**
  * Global exception handler that maps application exceptions to HTTP responses.
- * Handles EquipmentNotFoundException and generic exceptions to produce appropriate status codes.
+ * Handles EquipmentNotFoundException, stock conflicts, illegal request status transitions, auth service outages, invalid arguments and generic exceptions to produce appropriate status codes.
  */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -16,6 +16,26 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(404).body(ex.getMessage());
     }
 
+    @ExceptionHandler(EquipmentUnavailableException.class)
+    public ResponseEntity<?> handle(EquipmentUnavailableException ex) {
+        return ResponseEntity.status(409).body(ex.getMessage());
+    }
+
+    @ExceptionHandler(InvalidStatusTransitionException.class)
+    public ResponseEntity<?> handle(InvalidStatusTransitionException ex) {
+        return ResponseEntity.status(409).body(ex.getMessage());
+    }
+
+    @ExceptionHandler(AuthServiceUnavailableException.class)
+    public ResponseEntity<?> handle(AuthServiceUnavailableException ex) {
+        return ResponseEntity.status(503).body(ex.getMessage());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<?> handle(IllegalArgumentException ex) {
+        return ResponseEntity.status(400).body(ex.getMessage());
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<?> handle(Exception ex) {
         return ResponseEntity.status(500).body(ex.getMessage());
@@ -0,0 +1,9 @@
+package org.bits.assignment.equipmentservice.exception;
+
+/**
+ * Exception thrown when a request status change is not allowed from the request's
+ * current status, e.g. approving a request that was already returned.
+ */
+public class InvalidStatusTransitionException extends RuntimeException {
+    public InvalidStatusTransitionException(String msg){ super(msg); }
+}
@@ -0,0 +1,115 @@
+package org.bits.assignment.equipmentservice.reactive;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.bits.assignment.equipmentservice.client.dto.UserValidationResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * Non-blocking client for the user-service token validation endpoint.
+ *
+ * Answers are kept for a short TTL, keyed by a SHA-256 hash of the token, and concurrent
+ * lookups of the same token share one in-flight call. Calls go through the authService
+ * circuit breaker and are timed as {@code auth.client.requests}, tagged with their
+ * outcome: success, client_error (the token was rejected) or unavailable.
+ */
+@Profile(ReactiveCatalogApplication.PROFILE)
+@Component
+public class ReactiveAuthClient {
+
+    private final WebClient webClient;
+    private final CircuitBreaker circuitBreaker;
+    private final String validateUrl;
+    private final Duration timeout;
+    private final MeterRegistry meterRegistry;
+    private final AsyncCache<String, UserValidationResponse> validated;
+
+    public ReactiveAuthClient(WebClient authWebClient,
+                              CircuitBreaker reactiveAuthServiceCircuitBreaker,
+                              @Value("${auth.service.url}") String validateUrl,
+                              @Value("${auth.client.read-timeout-ms}") long readTimeoutMs,
+                              @Value("${reactive.auth.cache-ttl-seconds:30}") long cacheTtlSeconds,
+                              @Value("${reactive.auth.cache-max-size:10000}") long cacheMaxSize,
+                              MeterRegistry meterRegistry) {
+        this.webClient = authWebClient;
+        this.circuitBreaker = reactiveAuthServiceCircuitBreaker;
+        this.validateUrl = validateUrl;
+        this.timeout = Duration.ofMillis(readTimeoutMs);
+        this.meterRegistry = meterRegistry;
+        this.validated = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .buildAsync();
+    }
+
+    /**
+     * Resolves a bearer token to its user.
+     *
+     * Fails with BadCredentialsException if user-service rejects the token, and with
+     * AuthenticationServiceException if user-service cannot answer. Failures are not cached.
+     */
+    public Mono<UserValidationResponse> validate(String token) {
+        // suppressCancel: one subscriber going away must not cancel a call others share
+        return Mono.fromFuture(() -> validated.get(hash(token), (key, executor) -> exchange(token).toFuture()), true);
+    }
+
+    private Mono<UserValidationResponse> exchange(String token) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return webClient.get()
+                    .uri(validateUrl)
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                    .retrieve()
+                    .bodyToMono(UserValidationResponse.class)
+                    .timeout(timeout)
+                    .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                    .switchIfEmpty(Mono.error(() -> new BadCredentialsException("Auth service returned no user")))
+                    .onErrorMap(e -> !(e instanceof AuthenticationException), ReactiveAuthClient::translate)
+                    .doOnSuccess(user -> sample.stop(timer("success")))
+                    .doOnError(e -> sample.stop(timer(e instanceof BadCredentialsException ? "client_error" : "unavailable")));
+        });
+    }
+
+    private static AuthenticationException translate(Throwable e) {
+        if (e instanceof WebClientResponseException response && response.getStatusCode().is4xxClientError()) {
+            return new BadCredentialsException("Token rejected by auth service");
+        }
+        if (e instanceof CallNotPermittedException) {
+            return new AuthenticationServiceException("Auth service circuit is open", e);
+        }
+        return new AuthenticationServiceException("Auth service unavailable", e);
+    }
+
+    private Timer timer(String outcome) {
+        return meterRegistry.timer("auth.client.requests", "outcome", outcome);
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.bits.assignment.equipmentservice.reactive;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.reactive.ReactiveUserDetailsServiceAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Read-only equipment catalog on WebFlux and R2DBC, started as its own process.
+ *
+ * Serves GET /api/equipment, /api/equipment/{id} and /api/equipment/search with the same
+ * responses as the main service, without holding a thread per in-flight request. Writes,
+ * requests and approvals stay with EquipmentServiceApplication, which also owns the schema.
+ *
+ * Start it from the service jar with:
+ *   java -Dloader.main=org.bits.assignment.equipmentservice.reactive.ReactiveCatalogApplication -jar equipmentservice.jar
+ *
+ * Every bean in this package is limited to the {@code reactive} profile, which this
+ * entry point activates, so the servlet application never picks them up.
+ */
+@Profile(ReactiveCatalogApplication.PROFILE)
+@SpringBootApplication(exclude = {
+        DataSourceAutoConfiguration.class,
+        DataSourceTransactionManagerAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class,
+        ReactiveUserDetailsServiceAutoConfiguration.class
+})
+public class ReactiveCatalogApplication {
+
+    public static final String PROFILE = "reactive";
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(ReactiveCatalogApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .profiles(PROFILE)
+                .run(args);
+    }
+}
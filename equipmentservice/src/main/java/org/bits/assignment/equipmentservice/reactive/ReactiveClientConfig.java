@@ -0,0 +1,66 @@
+package org.bits.assignment.equipmentservice.reactive;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * Non-blocking counterpart of RestClientConfig for the reactive catalog.
+ *
+ * The WebClient runs on Reactor Netty's event loop with a bounded connection pool and the
+ * same connect, response and pool-acquire timeouts as the servlet service's RestTemplate.
+ */
+@Profile(ReactiveCatalogApplication.PROFILE)
+@Configuration
+public class ReactiveClientConfig {
+
+    @Bean
+    public WebClient authWebClient(WebClient.Builder builder,
+                                   @Value("${auth.client.connect-timeout-ms}") int connectTimeoutMs,
+                                   @Value("${auth.client.read-timeout-ms}") long readTimeoutMs,
+                                   @Value("${auth.client.pool-acquire-timeout-ms}") long poolAcquireTimeoutMs,
+                                   @Value("${auth.client.max-connections}") int maxConnections) {
+        ConnectionProvider connections = ConnectionProvider.builder("authService")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(poolAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .maxLifeTime(Duration.ofMinutes(5))
+                .build();
+        HttpClient httpClient = HttpClient.create(connections)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(readTimeoutMs));
+        return builder.clientConnector(new ReactorClientHttpConnector(httpClient)).build();
+    }
+
+    /**
+     * Circuit breaker guarding calls to the user-service, configured like the servlet
+     * service's. A 4xx answer (e.g. 401 for an invalid token) does not count as a failure.
+     */
+    @Bean
+    public CircuitBreaker reactiveAuthServiceCircuitBreaker(
+            @Value("${auth.client.circuit-breaker.failure-rate-threshold}") float failureRateThreshold,
+            @Value("${auth.client.circuit-breaker.open-state-ms}") long openStateMs,
+            @Value("${auth.client.read-timeout-ms}") long readTimeoutMs) {
+        return CircuitBreaker.of("authService", CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(readTimeoutMs / 2))
+                .slowCallRateThreshold(failureRateThreshold)
+                .slidingWindowSize(20)
+                .minimumNumberOfCalls(10)
+                .waitDurationInOpenState(Duration.ofMillis(openStateMs))
+                .ignoreException(e -> e instanceof WebClientResponseException response
+                        && response.getStatusCode().is4xxClientError())
+                .build());
+    }
+}
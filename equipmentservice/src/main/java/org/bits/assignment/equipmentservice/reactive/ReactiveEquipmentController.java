@@ -0,0 +1,73 @@
+package org.bits.assignment.equipmentservice.reactive;
+
+import lombok.RequiredArgsConstructor;
+import org.bits.assignment.equipmentservice.dto.EquipmentDTO;
+import org.bits.assignment.equipmentservice.dto.EquipmentPageDTO;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Read-only catalog endpoints for the reactive profile.
+ *
+ * Endpoints:
+ * - GET /api/equipment                    : the whole catalog, streamed as a JSON array or NDJSON
+ * - GET /api/equipment?size=&cursor=      : one keyset page of equipment (either parameter selects paging)
+ * - GET /api/equipment/{id}               : one item, 404 if absent
+ * - GET /api/equipment/search?q=&category=&page=&size= : ranked full-text search
+ *
+ * Flux results are written as rows arrive and only as fast as the client reads them.
+ */
+@Profile(ReactiveCatalogApplication.PROFILE)
+@RestController
+@RequestMapping("/api/equipment")
+@RequiredArgsConstructor
+public class ReactiveEquipmentController {
+
+    private final ReactiveEquipmentService equipmentService;
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<EquipmentDTO> getAllEquipment() {
+        return equipmentService.streamAllEquipment();
+    }
+
+    @GetMapping(params = "size")
+    public Mono<EquipmentPageDTO> getEquipmentPage(@RequestParam(required = false) Integer size,
+                                                   @RequestParam(required = false) String cursor) {
+        return equipmentService.getEquipmentPage(cursor, size);
+    }
+
+    @GetMapping(params = {"cursor", "!size"})
+    public Mono<EquipmentPageDTO> getEquipmentPageAfter(@RequestParam String cursor) {
+        return equipmentService.getEquipmentPage(cursor, null);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<EquipmentDTO> getEquipmentById(@PathVariable Long id) {
+        return equipmentService.getEquipmentById(id)
+                .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND, "Equipment not found")));
+    }
+
+    @GetMapping("/search")
+    public Flux<EquipmentDTO> searchEquipment(@RequestParam(required = false) String q,
+                                              @RequestParam(required = false) String category,
+                                              @RequestParam(defaultValue = "0") int page,
+                                              @RequestParam(required = false) Integer size) {
+        return equipmentService.searchEquipment(q, category, page, size);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handle(IllegalArgumentException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+    }
+}
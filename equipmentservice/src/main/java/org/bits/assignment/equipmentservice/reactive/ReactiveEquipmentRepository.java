@@ -0,0 +1,118 @@
+package org.bits.assignment.equipmentservice.reactive;
+
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.bits.assignment.equipmentservice.dto.EquipmentDTO;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Non-blocking catalog queries over R2DBC.
+ *
+ * Each row carries its specifications as an array aggregated in the same statement, so
+ * a result streams in one round trip with no follow-up query per page. Rows are fetched
+ * from the server in batches as the subscriber requests them, which keeps a slow client
+ * from pulling the whole table into memory.
+ */
+@Profile(ReactiveCatalogApplication.PROFILE)
+@Repository
+@RequiredArgsConstructor
+public class ReactiveEquipmentRepository {
+
+    private static final int FETCH_SIZE = 500;
+
+    private static final String SELECT = """
+            SELECT e.id, e.name, e.category, e.description, e.quantity, e.available, e.condition, e.location,
+                   e.usage_instructions, e.restrictions, e.last_maintenance, e.maintenance_interval,
+                   ARRAY(SELECT s.specifications FROM equipment_specifications s WHERE s.equipment_id = e.id)
+                       AS specifications
+            FROM equipment e
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public Flux<EquipmentDTO> streamAllOrderedById() {
+        return databaseClient.sql(SELECT + "ORDER BY e.id")
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .map(ReactiveEquipmentRepository::toDTO)
+                .all();
+    }
+
+    public Mono<EquipmentDTO> findById(long id) {
+        return databaseClient.sql(SELECT + "WHERE e.id = :id")
+                .bind("id", id)
+                .map(ReactiveEquipmentRepository::toDTO)
+                .one();
+    }
+
+    public Flux<EquipmentDTO> findAfterId(long afterId, int limit) {
+        return databaseClient.sql(SELECT + "WHERE e.id > :afterId ORDER BY e.id LIMIT :limit")
+                .bind("afterId", afterId)
+                .bind("limit", limit)
+                .map(ReactiveEquipmentRepository::toDTO)
+                .all();
+    }
+
+    public Flux<EquipmentDTO> findAllOrderedById(int limit, long offset) {
+        return databaseClient.sql(SELECT + "ORDER BY e.id LIMIT :limit OFFSET :offset")
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(ReactiveEquipmentRepository::toDTO)
+                .all();
+    }
+
+    public Flux<EquipmentDTO> findByCategory(String category, int limit, long offset) {
+        return databaseClient.sql(SELECT + "WHERE upper(e.category) = upper(:category) ORDER BY e.id LIMIT :limit OFFSET :offset")
+                .bind("category", category)
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(ReactiveEquipmentRepository::toDTO)
+                .all();
+    }
+
+    /**
+     * Full-text search ranked like EquipmentRepository.searchRanked.
+     *
+     * @param category category to filter on, ignoring case, or null for all categories
+     */
+    public Flux<EquipmentDTO> searchRanked(String tsQuery, String category, int limit, long offset) {
+        String where = "WHERE e.search_vector @@ to_tsquery('simple', :tsQuery) "
+                + (category != null ? "AND upper(e.category) = upper(:category) " : "");
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(SELECT + where
+                        + "ORDER BY ts_rank(e.search_vector, to_tsquery('simple', :tsQuery)) DESC, e.id "
+                        + "LIMIT :limit OFFSET :offset")
+                .bind("tsQuery", tsQuery)
+                .bind("limit", limit)
+                .bind("offset", offset);
+        if (category != null) {
+            spec = spec.bind("category", category);
+        }
+        return spec.map(ReactiveEquipmentRepository::toDTO).all();
+    }
+
+    private static EquipmentDTO toDTO(Readable row) {
+        String[] specifications = row.get("specifications", String[].class);
+        Integer maintenanceInterval = row.get("maintenance_interval", Integer.class);
+        return EquipmentDTO.builder()
+                .id(row.get("id", Long.class))
+                .name(row.get("name", String.class))
+                .category(row.get("category", String.class))
+                .description(row.get("description", String.class))
+                .quantity(row.get("quantity", Integer.class))
+                .available(row.get("available", Integer.class))
+                .condition(row.get("condition", String.class))
+                .location(row.get("location", String.class))
+                .specifications(specifications == null ? List.of() : List.of(specifications))
+                .usageInstructions(row.get("usage_instructions", String.class))
+                .restrictions(row.get("restrictions", String.class))
+                .lastMaintenance(row.get("last_maintenance", LocalDate.class))
+                .maintenanceInterval(maintenanceInterval == null ? 0 : maintenanceInterval)
+                .build();
+    }
+}
@@ -0,0 +1,79 @@
+package org.bits.assignment.equipmentservice.reactive;
+
+import lombok.RequiredArgsConstructor;
+import org.bits.assignment.equipmentservice.dto.EquipmentDTO;
+import org.bits.assignment.equipmentservice.dto.EquipmentPageDTO;
+import org.bits.assignment.equipmentservice.service.CatalogQueries;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Catalog reads for the reactive profile, mirroring EquipmentServiceImpl's paging,
+ * cursor and search rules.
+ */
+@Profile(ReactiveCatalogApplication.PROFILE)
+@Service
+@RequiredArgsConstructor
+public class ReactiveEquipmentService {
+
+    private final ReactiveEquipmentRepository equipmentRepository;
+
+    @Value("${equipment.pagination.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${equipment.pagination.max-size:500}")
+    private int maxPageSize;
+
+    public Flux<EquipmentDTO> streamAllEquipment() {
+        return equipmentRepository.streamAllOrderedById();
+    }
+
+    public Mono<EquipmentPageDTO> getEquipmentPage(String cursor, Integer size) {
+        int pageSize = clampPageSize(size);
+        long afterId;
+        try {
+            afterId = CatalogQueries.decodeCursor(cursor);
+        } catch (IllegalArgumentException e) {
+            return Mono.error(e);
+        }
+
+        // Fetch one extra row to learn whether another page follows without a count query
+        return equipmentRepository.findAfterId(afterId, pageSize + 1)
+                .collectList()
+                .map(rows -> {
+                    boolean hasMore = rows.size() > pageSize;
+                    var page = hasMore ? rows.subList(0, pageSize) : rows;
+                    return EquipmentPageDTO.builder()
+                            .items(page)
+                            .size(page.size())
+                            .nextCursor(hasMore ? CatalogQueries.encodeCursor(page.get(page.size() - 1).getId()) : null)
+                            .build();
+                });
+    }
+
+    public Mono<EquipmentDTO> getEquipmentById(long id) {
+        return equipmentRepository.findById(id);
+    }
+
+    public Flux<EquipmentDTO> searchEquipment(String query, String category, int page, Integer size) {
+        int pageSize = clampPageSize(size);
+        long offset = (long) Math.max(page, 0) * pageSize;
+        String tsQuery = CatalogQueries.toPrefixTsQuery(query);
+        String categoryFilter = category == null || category.isEmpty() ? null : category;
+
+        if (tsQuery != null) {
+            return equipmentRepository.searchRanked(tsQuery, categoryFilter, pageSize, offset);
+        } else if (categoryFilter != null) {
+            return equipmentRepository.findByCategory(categoryFilter, pageSize, offset);
+        } else {
+            return equipmentRepository.findAllOrderedById(pageSize, offset);
+        }
+    }
+
+    private int clampPageSize(Integer size) {
+        return size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+    }
+}
@@ -0,0 +1,90 @@
+package org.bits.assignment.equipmentservice.reactive;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.WebFilterExchange;
+import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * WebFlux security for the reactive catalog.
+ *
+ * Bearer tokens are resolved through ReactiveAuthClient without blocking. Catalog reads
+ * need the same ADMIN role as in the servlet service, and everything else is refused.
+ * An invalid token gets 401, and an unreachable auth service gets 503.
+ */
+@Profile(ReactiveCatalogApplication.PROFILE)
+@Configuration
+@EnableWebFluxSecurity
+@RequiredArgsConstructor
+public class ReactiveSecurityConfig {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final ReactiveAuthClient authClient;
+
+    @Bean
+    public SecurityWebFilterChain catalogSecurityFilterChain(ServerHttpSecurity http) {
+        AuthenticationWebFilter bearerAuthentication = new AuthenticationWebFilter(authenticationManager());
+        bearerAuthentication.setServerAuthenticationConverter(ReactiveSecurityConfig::bearerToken);
+        bearerAuthentication.setAuthenticationFailureHandler(ReactiveSecurityConfig::onAuthenticationFailure);
+
+        return http.csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .logout(ServerHttpSecurity.LogoutSpec::disable)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.UNAUTHORIZED)))
+                .authorizeExchange(exchanges -> exchanges
+                        .pathMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                        .pathMatchers(HttpMethod.GET, "/api/equipment/**").hasRole("ADMIN")
+                        .anyExchange().denyAll())
+                .addFilterAt(bearerAuthentication, SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+
+    private ReactiveAuthenticationManager authenticationManager() {
+        return authentication -> authClient.validate((String) authentication.getCredentials())
+                .map(user -> UsernamePasswordAuthenticationToken.authenticated(
+                        user.getEmail(),
+                        null,
+                        List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole())))); // add ROLE_ prefix
+    }
+
+    private static Mono<Authentication> bearerToken(ServerWebExchange exchange) {
+        String header = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.startsWith(BEARER_PREFIX)) {
+            return Mono.empty();
+        }
+        String token = header.substring(BEARER_PREFIX.length());
+        return Mono.just(UsernamePasswordAuthenticationToken.unauthenticated("bearer", token));
+    }
+
+    private static Mono<Void> onAuthenticationFailure(WebFilterExchange exchange, AuthenticationException e) {
+        var response = exchange.getExchange().getResponse();
+        response.setStatusCode(e instanceof AuthenticationServiceException
+                ? HttpStatus.SERVICE_UNAVAILABLE : HttpStatus.UNAUTHORIZED);
+        return response.setComplete();
+    }
+}
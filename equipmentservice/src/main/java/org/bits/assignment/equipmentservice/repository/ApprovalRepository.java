@@ -1,15 +1,24 @@
 package org.bits.assignment.equipmentservice.repository;
 
+import jakarta.persistence.LockModeType;
 import org.bits.assignment.equipmentservice.entity.Approval;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
  * Repository for Approval entities.
- * Provides CRUD operations and query methods to fetch approval records by status.
+ * Provides CRUD operations and query methods to fetch approval records by status, newest first.
  */
 public interface ApprovalRepository extends JpaRepository<Approval, Long> {
 
-    List<Approval> findByStatus(Approval.Status status);
+    List<Approval> findByStatusOrderByCreatedAtDesc(Approval.Status status);
+
+    /**
+     * Loads and row-locks a set of approvals for the rest of the transaction.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<Approval> findAllByIdIn(Collection<Long> ids);
 }
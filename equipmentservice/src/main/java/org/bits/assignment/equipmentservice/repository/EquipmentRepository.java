@@ -1,17 +1,118 @@
 package org.bits.assignment.equipmentservice.repository;
 
+import jakarta.persistence.QueryHint;
 import org.bits.assignment.equipmentservice.entity.Equipment;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository for Equipment entities.
- * Exposes methods to search equipment by name/description and by category.
+ * Exposes ranked full-text search over name/description (backed by the
+ * {@code search_vector} GIN index), category listing, keyset pagination and
+ * cursor-backed streaming over the whole table.
+ * Stock levels are only ever changed through the conditional updates below,
+ * which the database applies atomically per row.
+ * Specifications for a set of equipment rows are loaded in one set-based query
+ * via {@link #findSpecificationsByEquipmentIds(Collection)}.
  */
 @Repository
 public interface EquipmentRepository extends JpaRepository<Equipment, Long> {
-    List<Equipment> findByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(String name, String description);
-    List<Equipment> findByCategory(String category);
+    List<Equipment> findByCategoryIgnoreCaseOrderByIdAsc(String category, Pageable pageable);
+    List<Equipment> findAllByOrderByIdAsc(Pageable pageable);
+
+    /**
+     * Full-text search ranked by {@code ts_rank}; name matches outrank description matches.
+     * The optional category predicate is evaluated in the same statement.
+     *
+     * @param tsQuery  a {@code to_tsquery('simple', ...)} expression, e.g. {@code "digital:* & camera:*"}
+     * @param category category to filter on, ignoring case, or null for all categories
+     */
+    @Query(value = """
+            SELECT e.* FROM equipment e
+            WHERE e.search_vector @@ to_tsquery('simple', :tsQuery)
+              AND (CAST(:category AS VARCHAR) IS NULL OR upper(e.category) = upper(:category))
+            ORDER BY ts_rank(e.search_vector, to_tsquery('simple', :tsQuery)) DESC, e.id
+            LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<Equipment> searchRanked(@Param("tsQuery") String tsQuery,
+                                 @Param("category") String category,
+                                 @Param("limit") int limit,
+                                 @Param("offset") long offset);
+
+    List<Equipment> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select e from Equipment e order by e.id")
+    Stream<Equipment> streamAllOrderedById();
+
+    /**
+     * Takes one unit out of stock if any is left.
+     *
+     * @return 1 if a unit was reserved, 0 if none was available (or the id does not exist)
+     */
+    @Modifying
+    @Query("update Equipment e set e.available = e.available - 1 where e.id = :id and e.available > 0")
+    int reserveUnit(@Param("id") Long id);
+
+    /**
+     * Returns one unit to stock, never exceeding the total quantity.
+     *
+     * @return 1 if a unit was released, 0 otherwise
+     */
+    @Modifying
+    @Query("update Equipment e set e.available = e.available + 1 where e.id = :id and e.available < e.quantity")
+    int releaseUnit(@Param("id") Long id);
+
+    /**
+     * Changes the total quantity while preserving the number of units on loan.
+     *
+     * @return 1 if resized, 0 if the new quantity is below the units currently on loan
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Equipment e set e.available = e.available + (:quantity - e.quantity), e.quantity = :quantity " +
+            "where e.id = :id and e.available + (:quantity - e.quantity) >= 0")
+    int resizeStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Query("select e.category from Equipment e where e.id = :id")
+    Optional<String> findCategoryById(@Param("id") Long id);
+
+    @Query("select e.category as category, count(e) as items, sum(e.quantity) as quantity, " +
+            "sum(e.available) as available from Equipment e group by e.category")
+    List<CategoryTotalsRow> aggregateByCategory();
+
+    @Query("select e.id as equipmentId, s as specification from Equipment e join e.specifications s where e.id in :ids")
+    List<SpecificationRow> findSpecificationsByEquipmentIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Projection of per-category stock totals.
+     */
+    interface CategoryTotalsRow {
+        String getCategory();
+        long getItems();
+        long getQuantity();
+        long getAvailable();
+    }
+
+    /**
+     * Projection of a single row of {@code equipment_specifications}.
+     */
+    interface SpecificationRow {
+        Long getEquipmentId();
+        String getSpecification();
+    }
 }
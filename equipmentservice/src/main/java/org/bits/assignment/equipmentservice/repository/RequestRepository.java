@@ -1,16 +1,85 @@
 package org.bits.assignment.equipmentservice.repository;
 
+import jakarta.persistence.LockModeType;
 import org.bits.assignment.equipmentservice.entity.Request;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository for Request entities.
- * Provides methods to retrieve requests by requester user id.
+ * Provides methods to retrieve requests by requester user id, newest first,
+ * the aggregate counts used to reconcile analytics, per-user counts for a set of users,
+ * and the set-based update behind the overdue sweep.
  */
 @Repository
 public interface RequestRepository extends JpaRepository<Request, Long> {
-    List<Request> findByUserId(String userId);
+    List<Request> findByUserIdOrderByCreatedAtDesc(String userId);
+
+    /**
+     * Loads and row-locks one request for the rest of the transaction.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Request> findLockedById(Long id);
+
+    /**
+     * Marks at most {@code limit} approved requests due back before {@code today} as overdue,
+     * earliest return date first, without loading them. Candidates come from the front of the
+     * (status, return_date) index, so each call is a short range scan however large the table is.
+     *
+     * @return the number of requests marked
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE requests SET status = 'OVERDUE'
+            WHERE status = 'APPROVED'
+              AND id IN (SELECT id FROM requests
+                         WHERE status = 'APPROVED' AND return_date < :today
+                         ORDER BY return_date
+                         LIMIT :limit)
+            """, nativeQuery = true)
+    int markOverdue(@Param("today") LocalDate today, @Param("limit") int limit);
+
+    long countByStatusInAndRequestDateBetween(Collection<Request.Status> statuses, LocalDate from, LocalDate to);
+
+    @Query("select r.status as status, count(r) as total from Request r group by r.status")
+    List<StatusCountRow> countGroupedByStatus();
+
+    @Query("select count(distinct r.userId) from Request r")
+    long countDistinctUserIds();
+
+    @Query("select r.userId as userId, "
+            + "sum(case when r.status in :activeStatuses then 1 else 0 end) as active, "
+            + "sum(case when r.status in :borrowStatuses then 1 else 0 end) as borrows "
+            + "from Request r where r.userId in :userIds group by r.userId")
+    List<UserCountRow> countPerUser(@Param("userIds") Collection<String> userIds,
+                                    @Param("activeStatuses") Collection<Request.Status> activeStatuses,
+                                    @Param("borrowStatuses") Collection<Request.Status> borrowStatuses);
+
+    @Query("select r.createdAt as day, count(r) as total from Request r where r.createdAt >= :since group by r.createdAt")
+    List<DailyCountRow> countCreatedPerDaySince(@Param("since") LocalDate since);
+
+    interface StatusCountRow {
+        Request.Status getStatus();
+        long getTotal();
+    }
+
+    interface UserCountRow {
+        String getUserId();
+        long getActive();
+        long getBorrows();
+    }
+
+    interface DailyCountRow {
+        LocalDate getDay();
+        long getTotal();
+    }
 }
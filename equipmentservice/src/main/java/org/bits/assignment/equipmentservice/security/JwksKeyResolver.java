@@ -0,0 +1,128 @@
+package org.bits.assignment.equipmentservice.security;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.SignatureException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Resolves JWT verification keys from the user-service JWK Set.
+ *
+ * The keyset is fetched on a schedule and kept in memory, so tokens are verified
+ * locally without calling the auth service per request. A token with an unknown
+ * kid triggers an early refresh, at most once per minimum refresh interval, to pick
+ * up a key rotated in since the last fetch. If a fetch fails the previous keyset
+ * stays in use.
+ */
+@Slf4j
+@Component
+public class JwksKeyResolver extends SigningKeyResolverAdapter {
+
+    private final RestTemplate restTemplate;
+    private final String jwksUrl;
+    private final long minRefreshIntervalNanos;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private volatile long lastFetchNanos;
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record Jwks(List<Jwk> keys) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record Jwk(String kty, String kid, String alg, String n, String e) {}
+
+    public JwksKeyResolver(RestTemplate restTemplate,
+                           @Value("${auth.service.jwks-url}") String jwksUrl,
+                           @Value("${security.jwks.min-refresh-interval-ms:30000}") long minRefreshIntervalMs) {
+        this.restTemplate = restTemplate;
+        this.jwksUrl = jwksUrl;
+        this.minRefreshIntervalNanos = minRefreshIntervalMs * 1_000_000;
+        this.lastFetchNanos = System.nanoTime() - minRefreshIntervalNanos;
+    }
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        String kid = header.getKeyId();
+        if (kid == null) {
+            throw new SignatureException("JWT has no kid header");
+        }
+        PublicKey key = keys.get(kid);
+        if (key == null) {
+            refreshIfStale();
+            key = keys.get(kid);
+        }
+        if (key == null) {
+            throw new SignatureException("Unknown JWT signing key id: " + kid);
+        }
+        return key;
+    }
+
+    @Scheduled(fixedDelayString = "${security.jwks.refresh-interval-ms:300000}")
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            fetch();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void refreshIfStale() {
+        refreshLock.lock();
+        try {
+            if (System.nanoTime() - lastFetchNanos >= minRefreshIntervalNanos) {
+                fetch();
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void fetch() {
+        lastFetchNanos = System.nanoTime();
+        try {
+            Jwks jwks = restTemplate.getForObject(jwksUrl, Jwks.class);
+            if (jwks == null || jwks.keys() == null) {
+                log.warn("JWK Set from {} was empty; keeping {} cached keys", jwksUrl, keys.size());
+                return;
+            }
+            Map<String, PublicKey> fetched = new HashMap<>();
+            for (Jwk jwk : jwks.keys()) {
+                if ("RSA".equals(jwk.kty()) && jwk.kid() != null) {
+                    fetched.put(jwk.kid(), toPublicKey(jwk));
+                }
+            }
+            keys = Map.copyOf(fetched);
+        } catch (RestClientException | GeneralSecurityException | IllegalArgumentException e) {
+            log.warn("Could not refresh JWK Set from {}; keeping {} cached keys", jwksUrl, keys.size(), e);
+        }
+    }
+
+    private static PublicKey toPublicKey(Jwk jwk) throws GeneralSecurityException {
+        Base64.Decoder decoder = Base64.getUrlDecoder();
+        RSAPublicKeySpec spec = new RSAPublicKeySpec(
+                new BigInteger(1, decoder.decode(jwk.n())),
+                new BigInteger(1, decoder.decode(jwk.e())));
+        return KeyFactory.getInstance("RSA").generatePublic(spec);
+    }
+}
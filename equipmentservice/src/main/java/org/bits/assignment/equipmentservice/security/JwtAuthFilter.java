@@ -1,7 +1,5 @@
 package org.bits.assignment.equipmentservice.security;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,11 +16,20 @@ import java.util.List;
 /**
  * Servlet filter that validates JWTs from the Authorization header and
  * populates the Spring Security context with the authenticated principal and role.
+ * Verification results are cached per token by {@link TokenValidationCache}, and
+ * tokens of users that user-service no longer considers active are refused with 401
+ * (see {@link UserStatusCache}).
  */
 @Component
 public class JwtAuthFilter extends OncePerRequestFilter {
 
-    private final String secret = "your-secret-key"; // same secret used to sign the JWT
+    private final TokenValidationCache tokenValidationCache;
+    private final UserStatusCache userStatusCache;
+
+    public JwtAuthFilter(TokenValidationCache tokenValidationCache, UserStatusCache userStatusCache) {
+        this.tokenValidationCache = tokenValidationCache;
+        this.userStatusCache = userStatusCache;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -34,13 +41,15 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             String token = authHeader.substring(7);
 
             try {
-                Claims claims = Jwts.parser()
-                        .setSigningKey(secret.getBytes())
-                        .parseClaimsJws(token)
-                        .getBody();
+                JwtPrincipal principal = tokenValidationCache.resolve(token);
 
-                String username = claims.getSubject();
-                String role = claims.get("role", String.class);
+                String username = principal.username();
+                String role = principal.role();
+
+                if (username != null && !userStatusCache.isActive(principal, token)) {
+                    response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                    return;
+                }
 
                 if (username != null && role != null) {
                     UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
@@ -0,0 +1,9 @@
+package org.bits.assignment.equipmentservice.security;
+
+import java.time.Instant;
+
+/**
+ * Identity resolved from a verified JWT: subject, role claim and expiry.
+ */
+public record JwtPrincipal(String username, String role, Instant expiresAt) {
+}
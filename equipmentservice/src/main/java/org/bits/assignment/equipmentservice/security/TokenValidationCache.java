@@ -0,0 +1,127 @@
+package org.bits.assignment.equipmentservice.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verifies JWTs once and remembers the resolved principal until the token expires.
+ *
+ * Entries are keyed by a SHA-256 hash of the token so raw credentials are never held
+ * as map keys. Signatures are checked against the user-service keyset held by
+ * JwksKeyResolver. The parser is built once and shared; jjwt parsers are immutable and
+ * thread-safe. Hit and miss counts are published as {@code cache.*} metrics
+ * tagged {@code cache=jwtTokenCache}, and each signature check is timed as
+ * {@code security.jwt.verify} tagged by outcome.
+ */
+@Component
+public class TokenValidationCache {
+
+    private final JwtParser parser;
+    private final Cache<String, JwtPrincipal> cache;
+    private final Timer verifySuccess;
+    private final Timer verifyFailure;
+
+    public TokenValidationCache(JwksKeyResolver keyResolver,
+                                @Value("${security.token-cache.max-size:10000}") long maxSize,
+                                MeterRegistry meterRegistry) {
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(keyResolver)
+                .build();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwtTokenCache");
+        this.verifySuccess = verifyTimer(meterRegistry, "success");
+        this.verifyFailure = verifyTimer(meterRegistry, "failure");
+    }
+
+    /**
+     * Returns the principal for a token, verifying its signature only on a cache miss.
+     *
+     * @throws JwtException             if the token is malformed, expired or wrongly signed
+     * @throws IllegalArgumentException if the token is empty
+     */
+    public JwtPrincipal resolve(String token) {
+        String key = hash(token);
+        JwtPrincipal cached = cache.getIfPresent(key);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            return cached;
+        }
+
+        Claims claims;
+        long start = System.nanoTime();
+        try {
+            claims = parser.parseClaimsJws(token).getBody();
+            verifySuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        } catch (RuntimeException e) {
+            verifyFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        Date expiration = claims.getExpiration();
+        JwtPrincipal principal = new JwtPrincipal(
+                claims.getSubject(),
+                claims.get("role", String.class),
+                expiration != null ? expiration.toInstant() : null);
+
+        // Tokens without an exp claim are verified every time rather than cached indefinitely
+        if (principal.expiresAt() != null) {
+            cache.put(key, principal);
+        }
+        return principal;
+    }
+
+    private static Timer verifyTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("security.jwt.verify")
+                .description("JWT signature verification on token cache misses")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<String, JwtPrincipal> {
+
+        @Override
+        public long expireAfterCreate(String key, JwtPrincipal value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtPrincipal value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtPrincipal value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
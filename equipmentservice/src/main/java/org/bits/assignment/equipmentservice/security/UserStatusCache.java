@@ -0,0 +1,72 @@
+package org.bits.assignment.equipmentservice.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.bits.assignment.equipmentservice.client.AuthClientRest;
+import org.bits.assignment.equipmentservice.client.dto.UserValidationResponse;
+import org.bits.assignment.equipmentservice.exception.AuthServiceUnavailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Duration;
+
+/**
+ * Remembers, per user, whether user-service still considers the account active.
+ *
+ * A signature check alone would accept a suspended user's token until it expires
+ * (jwt.expiration, one hour). On a miss the token is sent to /api/auth/validate, and
+ * the answer is kept for security.user-status.ttl-seconds, so a suspension takes
+ * effect here within that TTL plus user-service's own status cache TTL. Hit and miss
+ * counts are published as {@code cache.*} metrics tagged {@code cache=userStatusCache}.
+ *
+ * When user-service is unavailable or failing the signature check stands on its own and nothing
+ * is cached, so the status is asked for again once it is back.
+ */
+@Component
+public class UserStatusCache {
+
+    private static final Logger log = LoggerFactory.getLogger(UserStatusCache.class);
+
+    private final AuthClientRest authClient;
+    private final Cache<String, Boolean> active;
+
+    public UserStatusCache(AuthClientRest authClient,
+                           @Value("${security.user-status.max-size:10000}") long maxSize,
+                           @Value("${security.user-status.ttl-seconds:30}") long ttlSeconds,
+                           MeterRegistry meterRegistry) {
+        this.authClient = authClient;
+        this.active = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, active, "userStatusCache");
+    }
+
+    /**
+     * @param token a token already verified for principal, used to ask user-service on a miss
+     * @return false if user-service refuses the token, e.g. because the user was suspended
+     */
+    public boolean isActive(JwtPrincipal principal, String token) {
+        Boolean status = active.get(principal.username(), username -> load(token));
+        return status == null || status;
+    }
+
+    private Boolean load(String token) {
+        try {
+            UserValidationResponse user = authClient.validateToken(token);
+            return user != null && "active".equalsIgnoreCase(user.getStatus());
+        } catch (HttpClientErrorException e) {
+            return false;
+        } catch (AuthServiceUnavailableException | RestClientException e) {
+            log.debug("User status unknown, user-service did not answer: {}", e.getMessage());
+            return null;
+        }
+    }
+}
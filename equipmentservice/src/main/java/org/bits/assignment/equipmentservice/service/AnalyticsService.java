@@ -0,0 +1,29 @@
+package org.bits.assignment.equipmentservice.service;
+
+import org.bits.assignment.equipmentservice.dto.ActivityDTO;
+import org.bits.assignment.equipmentservice.dto.AnalyticsStatsDTO;
+import org.bits.assignment.equipmentservice.dto.CategoryStatsDTO;
+import org.bits.assignment.equipmentservice.dto.DailyActivityDTO;
+
+import java.util.List;
+
+/**
+ * Service interface for dashboard analytics.
+ * Figures are served from counters maintained as equipment and requests change,
+ * not recomputed from the database per call.
+ */
+public interface AnalyticsService {
+
+    AnalyticsStatsDTO getStats();
+
+    List<ActivityDTO> getRecentActivity();
+
+    List<DailyActivityDTO> getDailyActivity();
+
+    List<CategoryStatsDTO> getCategoryStats();
+
+    /**
+     * Rebuilds the counters from the database, correcting any drift.
+     */
+    void reconcile();
+}
@@ -1,5 +1,7 @@
 package org.bits.assignment.equipmentservice.service;
 
+import org.bits.assignment.equipmentservice.dto.ApprovalBatchItemDTO;
+import org.bits.assignment.equipmentservice.dto.ApprovalBatchResultDTO;
 import org.bits.assignment.equipmentservice.dto.ApprovalDTO;
 import org.bits.assignment.equipmentservice.dto.ApprovalStatusUpdateDTO;
 
@@ -18,4 +20,10 @@ public interface ApprovalService {
     ApprovalDTO approveRequest(Long approvalId, String notes);
 
     ApprovalDTO rejectRequest(Long approvalId, String reason, String notes);
+
+    /**
+     * Applies many approve/reject decisions, returning one result per item in input order.
+     * Items that cannot be applied are reported as failures without affecting the others.
+     */
+    List<ApprovalBatchResultDTO> applyBatch(List<ApprovalBatchItemDTO> items);
 }
@@ -0,0 +1,63 @@
+package org.bits.assignment.equipmentservice.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Query helpers shared by the servlet and reactive catalog reads, so both accept the
+ * same cursors and search syntax.
+ */
+public final class CatalogQueries {
+
+    private static final String CURSOR_PREFIX = "id:";
+    private static final Pattern NON_TERM_CHARACTERS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MAX_QUERY_TERMS = 8;
+
+    private CatalogQueries() {
+    }
+
+    /**
+     * Turns free text into a prefix-matching tsquery ({@code "digital cam"} becomes
+     * {@code "digital:* & cam:*"}), or null when the text contains no searchable terms.
+     * Only letters and digits survive, so user input can never inject tsquery operators.
+     */
+    public static String toPrefixTsQuery(String query) {
+        if (query == null || query.isBlank()) {
+            return null;
+        }
+        String tsQuery = Arrays.stream(NON_TERM_CHARACTERS.split(query.toLowerCase(Locale.ROOT)))
+                .filter(term -> !term.isEmpty())
+                .limit(MAX_QUERY_TERMS)
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+        return tsQuery.isEmpty() ? null : tsQuery;
+    }
+
+    public static String encodeCursor(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((CURSOR_PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the last id of the previous page, or 0 for the first page
+     * @throws IllegalArgumentException if the cursor was not issued by encodeCursor
+     */
+    public static long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0L;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(CURSOR_PREFIX)) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return Long.parseLong(decoded.substring(CURSOR_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.bits.assignment.equipmentservice.service;
+
+/**
+ * Service exposing cheap version tags for the equipment and approval tables.
+ *
+ * A tag changes whenever a committed write touches the table, so it can be used
+ * as an HTTP ETag without reading or serializing the data.
+ */
+public interface DataVersionService {
+
+    /**
+     * Current version tag of the equipment catalog, including stock levels.
+     */
+    String equipmentVersion();
+
+    /**
+     * Current version tag of the approvals table.
+     */
+    String approvalVersion();
+}
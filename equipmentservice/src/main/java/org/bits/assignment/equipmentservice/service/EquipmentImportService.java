@@ -0,0 +1,25 @@
+package org.bits.assignment.equipmentservice.service;
+
+import org.bits.assignment.equipmentservice.dto.EquipmentImportResultDTO;
+
+import java.io.InputStream;
+
+/**
+ * Service for loading many equipment items at once.
+ *
+ * Input is read as a stream and stored in chunks, so the upload size is not
+ * limited by memory. Invalid rows are skipped and reported in the result.
+ */
+public interface EquipmentImportService {
+
+    /**
+     * Imports a JSON array of equipment creation payloads.
+     */
+    EquipmentImportResultDTO importJson(InputStream in);
+
+    /**
+     * Imports CSV with a header row naming the equipment fields. Multiple
+     * specifications in one cell are separated by ';'.
+     */
+    EquipmentImportResultDTO importCsv(InputStream in);
+}
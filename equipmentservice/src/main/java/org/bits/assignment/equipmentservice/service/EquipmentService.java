@@ -2,8 +2,10 @@ package org.bits.assignment.equipmentservice.service;
 
 import org.bits.assignment.equipmentservice.dto.EquipmentCreateDTO;
 import org.bits.assignment.equipmentservice.dto.EquipmentDTO;
+import org.bits.assignment.equipmentservice.dto.EquipmentPageDTO;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Service interface for managing equipment inventory.
@@ -13,9 +15,31 @@ public interface EquipmentService {
 
     List<EquipmentDTO> getAllEquipment();
 
+    /**
+     * Returns one keyset page ordered by id.
+     *
+     * @param cursor continuation token from a previous page, or null for the first page
+     * @param size   requested page size; clamped to the configured maximum
+     */
+    EquipmentPageDTO getEquipmentPage(String cursor, Integer size);
+
+    /**
+     * Streams every equipment row, in id order, to the given consumer without
+     * materializing the full result set.
+     */
+    void streamAllEquipment(Consumer<EquipmentDTO> consumer);
+
     EquipmentDTO getEquipmentById(Long id);
 
-    List<EquipmentDTO> searchEquipment(String query, String category);
+    /**
+     * Returns one page of equipment matching the query and/or category, best matches first.
+     *
+     * @param query    optional free-text query over name and description; terms are prefix-matched
+     * @param category optional category, matched ignoring case
+     * @param page     zero-based page index
+     * @param size     requested page size; clamped to the configured maximum
+     */
+    List<EquipmentDTO> searchEquipment(String query, String category, int page, Integer size);
 
     EquipmentDTO createEquipment(EquipmentCreateDTO dto);
 
@@ -0,0 +1,28 @@
+package org.bits.assignment.equipmentservice.service;
+
+/**
+ * Service interface for reserving and releasing units of equipment stock.
+ * Every operation is a single atomic update, safe under concurrent callers.
+ */
+public interface InventoryService {
+
+    /**
+     * Reserves one unit.
+     *
+     * @return true if a unit was reserved, false if none was available
+     */
+    boolean tryReserve(Long equipmentId);
+
+    /**
+     * Reserves one unit or fails.
+     *
+     * @throws org.bits.assignment.equipmentservice.exception.EquipmentNotFoundException    if the equipment does not exist
+     * @throws org.bits.assignment.equipmentservice.exception.EquipmentUnavailableException if no unit is available
+     */
+    void reserve(Long equipmentId);
+
+    /**
+     * Returns one unit to stock.
+     */
+    void release(Long equipmentId);
+}
@@ -3,15 +3,20 @@ package org.bits.assignment.equipmentservice.service;
 import org.bits.assignment.equipmentservice.dto.RequestCreateDTO;
 import org.bits.assignment.equipmentservice.dto.RequestDTO;
 import org.bits.assignment.equipmentservice.dto.RequestStatusUpdateDTO;
+import org.bits.assignment.equipmentservice.dto.UserRequestCountsDTO;
 
 import java.util.List;
 
 /**
  * Service interface for creating and managing equipment requests.
- * Allows listing requests by user, creating requests and updating request status.
+ * Allows listing requests by user, counting requests for many users at once,
+ * creating requests, updating request status along the allowed lifecycle transitions,
+ * and marking approved requests overdue once their return date has passed.
  */
 public interface RequestService {
     List<RequestDTO> getRequestsByUserId(String userId);
+    List<UserRequestCountsDTO> getCountsByUserIds(List<String> userIds);
     RequestDTO createRequest(RequestCreateDTO dto);
     RequestDTO updateStatus(Long requestId, RequestStatusUpdateDTO dto);
+    int markOverdueRequests();
 }
@@ -0,0 +1,357 @@
+package org.bits.assignment.equipmentservice.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bits.assignment.equipmentservice.dto.ActivityDTO;
+import org.bits.assignment.equipmentservice.dto.AnalyticsStatsDTO;
+import org.bits.assignment.equipmentservice.dto.CategoryStatsDTO;
+import org.bits.assignment.equipmentservice.dto.DailyActivityDTO;
+import org.bits.assignment.equipmentservice.entity.Request;
+import org.bits.assignment.equipmentservice.event.EquipmentChangedEvent;
+import org.bits.assignment.equipmentservice.event.RequestStatusChangedEvent;
+import org.bits.assignment.equipmentservice.event.RequestsMarkedOverdueEvent;
+import org.bits.assignment.equipmentservice.event.StockChangedEvent;
+import org.bits.assignment.equipmentservice.repository.EquipmentRepository;
+import org.bits.assignment.equipmentservice.repository.RequestRepository;
+import org.bits.assignment.equipmentservice.service.AnalyticsService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of AnalyticsService that keeps dashboard counters in memory.
+ *
+ * Counters are adjusted from domain events after the originating transaction commits,
+ * so reads never touch the database. A scheduled reconciliation rebuilds them from
+ * aggregate queries to correct drift, e.g. from writes made by another instance.
+ *
+ * While a reconciliation runs, every counter change is also journaled and replayed onto
+ * the rebuilt generation before it is swapped in, so events arriving between the queries
+ * and the swap are not lost. The queries share one snapshot; only an event whose commit
+ * the snapshot already saw, but whose listener had not yet run, can be counted twice, and
+ * the next run corrects it.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalyticsServiceImpl implements AnalyticsService {
+
+    private static final String UNCATEGORIZED = "Uncategorized";
+    private static final int ACTIVITY_LOG_SIZE = 50;
+    private static final int DAILY_WINDOW_DAYS = 30;
+    private static final List<Request.Status> BORROW_STATUSES = Arrays.stream(Request.Status.values())
+            .filter(Request.Status::countsAsBorrow)
+            .collect(Collectors.toList());
+
+    private final EquipmentRepository equipmentRepository;
+    private final RequestRepository requestRepository;
+
+    private volatile Counters counters = new Counters();
+    private volatile Queue<Consumer<Counters>> replayJournal;
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final ConcurrentMap<LocalDate, DailyCounter> daily = new ConcurrentHashMap<>();
+    private final Deque<ActivityDTO> recentActivity = new ConcurrentLinkedDeque<>();
+    private final AtomicLong activitySequence = new AtomicLong();
+
+    @Override
+    public AnalyticsStatsDTO getStats() {
+        Counters c = counters;
+        long active = 0;
+        long borrowed = 0;
+        for (Map.Entry<Request.Status, LongAdder> entry : c.requestsByStatus.entrySet()) {
+            long count = entry.getValue().sum();
+            if (entry.getKey().isActive()) {
+                active += count;
+            }
+            if (entry.getKey().countsAsBorrow()) {
+                borrowed += count;
+            }
+        }
+        long decided = borrowed + c.requestsByStatus.get(Request.Status.REJECTED).sum();
+        double approvalRate = decided == 0 ? 0.0 : Math.round(borrowed * 1000.0 / decided) / 10.0;
+        LongAdder thisMonth = c.borrowsByMonth.get(YearMonth.now());
+
+        return AnalyticsStatsDTO.builder()
+                .totalEquipment(c.equipmentItems.sum())
+                .activeRequests(active)
+                .usersCount(c.usersCount)
+                .approvalRate(approvalRate)
+                .borrowsThisMonth(thisMonth == null ? 0 : thisMonth.sum())
+                .build();
+    }
+
+    @Override
+    public List<ActivityDTO> getRecentActivity() {
+        return List.copyOf(recentActivity);
+    }
+
+    @Override
+    public List<DailyActivityDTO> getDailyActivity() {
+        Map<LocalDate, LongAdder> createdByDay = counters.createdByDay;
+        TreeSet<LocalDate> days = new TreeSet<>(Comparator.reverseOrder());
+        days.addAll(createdByDay.keySet());
+        days.addAll(daily.keySet());
+        return days.stream()
+                .limit(DAILY_WINDOW_DAYS)
+                .map(day -> {
+                    LongAdder created = createdByDay.get(day);
+                    DailyCounter observed = daily.get(day);
+                    return DailyActivityDTO.builder()
+                            .date(day)
+                            .requestsCreated(created == null ? 0 : created.sum())
+                            .requestsApproved(observed == null ? 0 : observed.approved.sum())
+                            .requestsReturned(observed == null ? 0 : observed.returned.sum())
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<CategoryStatsDTO> getCategoryStats() {
+        return counters.categories.entrySet().stream()
+                .filter(entry -> entry.getValue().items.sum() > 0)
+                .map(entry -> {
+                    long quantity = entry.getValue().quantity.sum();
+                    long available = entry.getValue().available.sum();
+                    return CategoryStatsDTO.builder()
+                            .category(entry.getKey())
+                            .count(quantity)
+                            .available(available)
+                            .borrowed(quantity - available)
+                            .build();
+                })
+                .sorted(Comparator.comparing(CategoryStatsDTO::getCategory))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${analytics.reconcile-interval-ms}")
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void reconcile() {
+        // Start journaling before the first query takes the snapshot
+        Queue<Consumer<Counters>> journal = new ConcurrentLinkedQueue<>();
+        swapLock.writeLock().lock();
+        try {
+            replayJournal = journal;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        Counters fresh = new Counters();
+        try {
+            for (EquipmentRepository.CategoryTotalsRow row : equipmentRepository.aggregateByCategory()) {
+                CategoryCounter category = fresh.category(row.getCategory());
+                category.items.add(row.getItems());
+                category.quantity.add(row.getQuantity());
+                category.available.add(row.getAvailable());
+                fresh.equipmentItems.add(row.getItems());
+            }
+            for (RequestRepository.StatusCountRow row : requestRepository.countGroupedByStatus()) {
+                fresh.requestsByStatus.get(row.getStatus()).add(row.getTotal());
+            }
+            YearMonth month = YearMonth.now();
+            fresh.borrowsByMonth.computeIfAbsent(month, m -> new LongAdder()).add(
+                    requestRepository.countByStatusInAndRequestDateBetween(BORROW_STATUSES, month.atDay(1), month.atEndOfMonth()));
+            fresh.usersCount = requestRepository.countDistinctUserIds();
+
+            // Only creations are recorded with a date; approval and return counts are kept as observed
+            LocalDate since = LocalDate.now().minusDays(DAILY_WINDOW_DAYS - 1);
+            daily.keySet().removeIf(day -> day.isBefore(since));
+            for (RequestRepository.DailyCountRow row : requestRepository.countCreatedPerDaySince(since)) {
+                fresh.createdByDay.computeIfAbsent(row.getDay(), day -> new LongAdder()).add(row.getTotal());
+            }
+        } catch (RuntimeException e) {
+            replayJournal = null;
+            throw e;
+        }
+
+        swapLock.writeLock().lock();
+        try {
+            journal.forEach(change -> change.accept(fresh));
+            counters = fresh;
+            replayJournal = null;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        log.debug("Analytics counters reconciled, {} concurrent changes replayed", journal.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(EquipmentChangedEvent event) {
+        EquipmentChangedEvent.StockSnapshot before = event.before();
+        EquipmentChangedEvent.StockSnapshot after = event.after();
+        apply(c -> {
+            if (before != null) {
+                c.category(before.category()).add(-1, -before.quantity(), -before.available());
+                if (after == null) {
+                    c.equipmentItems.decrement();
+                }
+            }
+            if (after != null) {
+                c.category(after.category()).add(1, after.quantity(), after.available());
+                if (before == null) {
+                    c.equipmentItems.increment();
+                }
+            }
+        });
+
+        if (before == null) {
+            recordActivity("equipment_added", currentUser(), "Added equipment #" + event.equipmentId());
+        } else if (after == null) {
+            recordActivity("equipment_removed", currentUser(), "Removed equipment #" + event.equipmentId());
+        } else {
+            recordActivity("equipment_updated", currentUser(), "Updated equipment #" + event.equipmentId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(StockChangedEvent event) {
+        apply(c -> c.category(event.category()).available.add(event.delta()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(RequestStatusChangedEvent event) {
+        Request.Status previous = event.previous();
+        Request.Status current = event.current();
+        LocalDate day = LocalDate.now();
+        apply(c -> {
+            if (previous != null) {
+                c.requestsByStatus.get(previous).decrement();
+            } else {
+                c.createdByDay.computeIfAbsent(day, d -> new LongAdder()).increment();
+            }
+            c.requestsByStatus.get(current).increment();
+
+            boolean wasBorrow = previous != null && previous.countsAsBorrow();
+            if (wasBorrow != current.countsAsBorrow() && event.requestDate() != null) {
+                c.borrowsByMonth.computeIfAbsent(YearMonth.from(event.requestDate()), m -> new LongAdder())
+                        .add(current.countsAsBorrow() ? 1 : -1);
+            }
+        });
+
+        String equipment = event.equipmentName() != null ? event.equipmentName() : "equipment #" + event.equipmentId();
+        if (previous == null) {
+            recordActivity("request_created", event.userId(), "Requested " + equipment);
+        } else {
+            DailyCounter today = daily.computeIfAbsent(day, d -> new DailyCounter());
+            if (current == Request.Status.APPROVED) {
+                today.approved.increment();
+            } else if (current == Request.Status.RETURNED) {
+                today.returned.increment();
+            }
+            recordActivity("request_" + current.name().toLowerCase(), event.userId(),
+                    "Request for " + equipment + " marked " + current.name().toLowerCase());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(RequestsMarkedOverdueEvent event) {
+        // Both statuses hold stock and count as a borrow, so only the per-status counts move
+        apply(c -> {
+            c.requestsByStatus.get(Request.Status.APPROVED).add(-event.count());
+            c.requestsByStatus.get(Request.Status.OVERDUE).add(event.count());
+        });
+        recordActivity("requests_overdue", "system", event.count() + " requests marked overdue");
+    }
+
+    /**
+     * Applies a counter change to the live generation and, during a reconciliation, journals
+     * it for replay. The read lock makes the pair atomic with respect to the swap.
+     */
+    private void apply(Consumer<Counters> change) {
+        swapLock.readLock().lock();
+        try {
+            change.accept(counters);
+            Queue<Consumer<Counters>> journal = replayJournal;
+            if (journal != null) {
+                journal.add(change);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private void recordActivity(String type, String user, String description) {
+        recentActivity.addFirst(ActivityDTO.builder()
+                .id("act-" + activitySequence.incrementAndGet())
+                .type(type)
+                .user(user)
+                .description(description)
+                .timestamp(Instant.now())
+                .build());
+        while (recentActivity.size() > ACTIVITY_LOG_SIZE) {
+            recentActivity.pollLast();
+        }
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : "system";
+    }
+
+    /**
+     * One generation of counters. Reconciliation builds a new generation and swaps it in,
+     * so readers never observe a half-rebuilt state.
+     */
+    private static final class Counters {
+        final LongAdder equipmentItems = new LongAdder();
+        final ConcurrentMap<String, CategoryCounter> categories = new ConcurrentHashMap<>();
+        final Map<Request.Status, LongAdder> requestsByStatus = new EnumMap<>(Request.Status.class);
+        final ConcurrentMap<YearMonth, LongAdder> borrowsByMonth = new ConcurrentHashMap<>();
+        final ConcurrentMap<LocalDate, LongAdder> createdByDay = new ConcurrentHashMap<>();
+        volatile long usersCount;
+
+        Counters() {
+            for (Request.Status status : Request.Status.values()) {
+                requestsByStatus.put(status, new LongAdder());
+            }
+        }
+
+        CategoryCounter category(String name) {
+            return categories.computeIfAbsent(name != null ? name : UNCATEGORIZED, n -> new CategoryCounter());
+        }
+    }
+
+    private static final class CategoryCounter {
+        final LongAdder items = new LongAdder();
+        final LongAdder quantity = new LongAdder();
+        final LongAdder available = new LongAdder();
+
+        void add(long itemsDelta, long quantityDelta, long availableDelta) {
+            items.add(itemsDelta);
+            quantity.add(quantityDelta);
+            available.add(availableDelta);
+        }
+    }
+
+    private static final class DailyCounter {
+        final LongAdder approved = new LongAdder();
+        final LongAdder returned = new LongAdder();
+    }
+}
@@ -1,28 +1,55 @@
 package org.bits.assignment.equipmentservice.service.impl;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bits.assignment.equipmentservice.dto.ApprovalBatchItemDTO;
+import org.bits.assignment.equipmentservice.dto.ApprovalBatchResultDTO;
 import org.bits.assignment.equipmentservice.dto.ApprovalDTO;
 import org.bits.assignment.equipmentservice.dto.ApprovalStatusUpdateDTO;
 import org.bits.assignment.equipmentservice.entity.Approval;
+import org.bits.assignment.equipmentservice.event.ApprovalChangedEvent;
 import org.bits.assignment.equipmentservice.repository.ApprovalRepository;
 import org.bits.assignment.equipmentservice.service.ApprovalService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Implementation of ApprovalService that performs CRUD and status updates
  * on Approval entities via the ApprovalRepository.
+ * Approvals only record the decision: stock is owned by the Request lifecycle,
+ * which reserves a unit on APPROVED and releases it on RETURNED.
+ * Batch decisions are applied in chunks, each chunk in one transaction with
+ * JDBC batch updates.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ApprovalServiceImpl implements ApprovalService {
 
+    private static final int MAX_BATCH_ITEMS = 5000;
+    static final int BATCH_CHUNK_SIZE = 500;
+    private static final String APPROVE_SQL = "UPDATE approvals SET status = 'APPROVED', notes = ? WHERE id = ?";
+    private static final String REJECT_SQL = "UPDATE approvals SET status = 'REJECTED', reason = ?, notes = ? WHERE id = ?";
+
     private final ApprovalRepository approvalRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
-    private ApprovalDTO mapToDTO(Approval approval) {
+    ApprovalDTO mapToDTO(Approval approval) {
         ApprovalDTO dto = new ApprovalDTO();
         dto.setId(approval.getId());
         dto.setUserId(approval.getUserId());
@@ -48,22 +75,25 @@ public class ApprovalServiceImpl implements ApprovalService {
     @Override
     public List<ApprovalDTO> getApprovalsByStatus(String status) {
         Approval.Status s = Approval.Status.valueOf(status.toUpperCase());
-        return approvalRepository.findByStatus(s).stream()
+        return approvalRepository.findByStatusOrderByCreatedAtDesc(s).stream()
                 .map(this::mapToDTO)
                 .collect(Collectors.toList());
     }
 
     @Override
+    @Transactional
     public ApprovalDTO approveRequest(Long approvalId, String notes) {
         Approval approval = approvalRepository.findById(approvalId)
                 .orElseThrow(() -> new RuntimeException("Approval not found"));
         approval.setStatus(Approval.Status.APPROVED);
         approval.setNotes(notes);
         approvalRepository.save(approval);
+        eventPublisher.publishEvent(new ApprovalChangedEvent(approvalId, Approval.Status.APPROVED));
         return mapToDTO(approval);
     }
 
     @Override
+    @Transactional
     public ApprovalDTO rejectRequest(Long approvalId, String reason, String notes) {
         Approval approval = approvalRepository.findById(approvalId)
                 .orElseThrow(() -> new RuntimeException("Approval not found"));
@@ -71,6 +101,86 @@ public class ApprovalServiceImpl implements ApprovalService {
         approval.setReason(reason);
         approval.setNotes(notes);
         approvalRepository.save(approval);
+        eventPublisher.publishEvent(new ApprovalChangedEvent(approvalId, Approval.Status.REJECTED));
         return mapToDTO(approval);
     }
+
+    @Override
+    public List<ApprovalBatchResultDTO> applyBatch(List<ApprovalBatchItemDTO> items) {
+        if (items == null || items.isEmpty()) {
+            return List.of();
+        }
+        if (items.size() > MAX_BATCH_ITEMS) {
+            throw new IllegalArgumentException("A batch may contain at most " + MAX_BATCH_ITEMS + " items");
+        }
+
+        List<ApprovalBatchResultDTO> results = new ArrayList<>(items.size());
+        for (int from = 0; from < items.size(); from += BATCH_CHUNK_SIZE) {
+            List<ApprovalBatchItemDTO> chunk = items.subList(from, Math.min(from + BATCH_CHUNK_SIZE, items.size()));
+            try {
+                results.addAll(transactionTemplate.execute(status -> applyChunk(chunk)));
+            } catch (RuntimeException e) {
+                log.warn("Approval batch chunk of {} items rolled back", chunk.size(), e);
+                chunk.forEach(item -> results.add(ApprovalBatchResultDTO.failed(item.getId(), "Batch chunk failed: " + e.getMessage())));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Applies one chunk inside the caller's transaction: locks the referenced rows,
+     * validates each item, then writes all status changes as two JDBC batches.
+     */
+    private List<ApprovalBatchResultDTO> applyChunk(List<ApprovalBatchItemDTO> chunk) {
+        Set<Long> ids = chunk.stream().map(ApprovalBatchItemDTO::getId).filter(id -> id != null).collect(Collectors.toSet());
+        Map<Long, Approval> current = approvalRepository.findAllByIdIn(ids).stream()
+                .collect(Collectors.toMap(Approval::getId, Function.identity()));
+
+        List<ApprovalBatchResultDTO> results = new ArrayList<>(chunk.size());
+        List<Object[]> approvals = new ArrayList<>();
+        List<Object[]> rejections = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (ApprovalBatchItemDTO item : chunk) {
+            Long id = item.getId();
+            Approval.Status decision = parseDecision(item.getDecision());
+            Approval approval = current.get(id);
+            if (id == null || approval == null) {
+                results.add(ApprovalBatchResultDTO.failed(id, "Approval not found"));
+            } else if (!seen.add(id)) {
+                results.add(ApprovalBatchResultDTO.failed(id, "Duplicate id in batch"));
+            } else if (decision == null) {
+                results.add(ApprovalBatchResultDTO.failed(id, "Decision must be APPROVED or REJECTED"));
+            } else {
+                if (decision == Approval.Status.APPROVED) {
+                    approvals.add(new Object[]{item.getNotes(), id});
+                } else {
+                    rejections.add(new Object[]{item.getReason(), item.getNotes(), id});
+                }
+                results.add(ApprovalBatchResultDTO.builder().id(id).success(true).status(decision.name()).build());
+                eventPublisher.publishEvent(new ApprovalChangedEvent(id, decision));
+            }
+        }
+
+        batchUpdate(APPROVE_SQL, approvals);
+        batchUpdate(REJECT_SQL, rejections);
+        return results;
+    }
+
+    private void batchUpdate(String sql, Collection<Object[]> args) {
+        if (!args.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, new ArrayList<>(args));
+        }
+    }
+
+    private static Approval.Status parseDecision(String decision) {
+        if (decision == null) {
+            return null;
+        }
+        try {
+            Approval.Status status = Approval.Status.valueOf(decision.toUpperCase());
+            return status == Approval.Status.PENDING ? null : status;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
 }
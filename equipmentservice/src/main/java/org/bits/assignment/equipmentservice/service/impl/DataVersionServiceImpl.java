@@ -0,0 +1,64 @@
+package org.bits.assignment.equipmentservice.service.impl;
+
+import org.bits.assignment.equipmentservice.event.ApprovalChangedEvent;
+import org.bits.assignment.equipmentservice.event.EquipmentChangedEvent;
+import org.bits.assignment.equipmentservice.event.StockChangedEvent;
+import org.bits.assignment.equipmentservice.service.DataVersionService;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementation of DataVersionService backed by in-memory modification counters.
+ *
+ * Counters are bumped after each write commits. Tags are prefixed with the process
+ * start time, so tags handed out before a restart never match afterwards. Writes made
+ * outside this service instance (another replica, manual SQL) are not seen; run one
+ * instance or route writes through it when relying on these tags.
+ *
+ * Equipment counters are bumped last among the after-commit listeners, once the catalog
+ * caches have been evicted. A request that reads the new tag therefore always loads the
+ * new data; one that read the old tag just gets a 200 on its next revalidation.
+ */
+@Service
+public class DataVersionServiceImpl implements DataVersionService {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong equipmentChanges = new AtomicLong();
+    private final AtomicLong approvalChanges = new AtomicLong();
+
+    @Override
+    public String equipmentVersion() {
+        return tag("eq", equipmentChanges);
+    }
+
+    @Override
+    public String approvalVersion() {
+        return tag("ap", approvalChanges);
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(EquipmentChangedEvent event) {
+        equipmentChanges.incrementAndGet();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(StockChangedEvent event) {
+        equipmentChanges.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ApprovalChangedEvent event) {
+        approvalChanges.incrementAndGet();
+    }
+
+    // Weak validator: the same version may be served gzip-encoded or not
+    private String tag(String table, AtomicLong counter) {
+        return "W/\"" + table + "-" + epoch + "-" + counter.get() + "\"";
+    }
+}
@@ -0,0 +1,311 @@
+package org.bits.assignment.equipmentservice.service.impl;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bits.assignment.equipmentservice.dto.EquipmentCreateDTO;
+import org.bits.assignment.equipmentservice.dto.EquipmentImportResultDTO;
+import org.bits.assignment.equipmentservice.entity.Equipment;
+import org.bits.assignment.equipmentservice.event.EquipmentChangedEvent;
+import org.bits.assignment.equipmentservice.service.EquipmentImportService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Implementation of EquipmentImportService.
+ *
+ * Rows are parsed one at a time and persisted in chunks, each chunk in its own
+ * transaction. With pooled sequence ids and hibernate.jdbc.batch_size set, a chunk
+ * flushes as a few multi-row JDBC batches for equipment and equipment_specifications
+ * rather than one round trip per row. The persistence context is cleared after each
+ * chunk so memory stays flat for large files.
+ *
+ * A row that cannot be mapped (wrong types, not an object) is rejected and the import
+ * moves on; only input that is not well-formed JSON or CSV stops it.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EquipmentImportServiceImpl implements EquipmentImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    @Value("${equipment.import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Override
+    public EquipmentImportResultDTO importJson(InputStream in) {
+        ImportRun run = new ImportRun();
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Expected a JSON array of equipment");
+            }
+            long row = 0;
+            for (JsonToken token = parser.nextToken(); token != null && token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                row++;
+                // Reading the row as a tree first leaves the parser at the next row even if mapping fails
+                JsonNode node = objectMapper.readTree(parser);
+                if (!node.isObject()) {
+                    run.reject(row, "expected an object but found " + node.getNodeType().name().toLowerCase(Locale.ROOT));
+                    continue;
+                }
+                try {
+                    run.accept(row, objectMapper.treeToValue(node, EquipmentCreateDTO.class));
+                } catch (JsonProcessingException e) {
+                    run.reject(row, e.getOriginalMessage());
+                }
+            }
+        } catch (IOException e) {
+            run.abort(e);
+        }
+        return run.finish();
+    }
+
+    @Override
+    public EquipmentImportResultDTO importCsv(InputStream in) {
+        ImportRun run = new ImportRun();
+        try (Reader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            List<String> header = readCsvRecord(reader);
+            if (header == null) {
+                throw new IllegalArgumentException("CSV input is empty");
+            }
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            if (!columns.containsKey("name") || !columns.containsKey("category")) {
+                throw new IllegalArgumentException("CSV header must include name and category columns");
+            }
+
+            long row = 0;
+            for (List<String> record = readCsvRecord(reader); record != null; record = readCsvRecord(reader)) {
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+                row++;
+                try {
+                    run.accept(row, fromCsv(record, columns));
+                } catch (IllegalArgumentException e) {
+                    run.reject(row, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            run.abort(e);
+        }
+        return run.finish();
+    }
+
+    private static EquipmentCreateDTO fromCsv(List<String> record, Map<String, Integer> columns) {
+        String specifications = cell(record, columns, "specifications");
+        return EquipmentCreateDTO.builder()
+                .name(cell(record, columns, "name"))
+                .category(cell(record, columns, "category"))
+                .description(cell(record, columns, "description"))
+                .quantity(intCell(record, columns, "quantity"))
+                .condition(cell(record, columns, "condition"))
+                .location(cell(record, columns, "location"))
+                .specifications(specifications == null ? List.of()
+                        : Arrays.stream(specifications.split(";")).map(String::trim).filter(s -> !s.isEmpty()).toList())
+                .usageInstructions(cell(record, columns, "usageinstructions"))
+                .restrictions(cell(record, columns, "restrictions"))
+                .maintenanceInterval(intCell(record, columns, "maintenanceinterval"))
+                .build();
+    }
+
+    private static String cell(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static int intCell(List<String> record, Map<String, Integer> columns, String column) {
+        String value = cell(record, columns, column);
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " is not a number: " + value);
+        }
+    }
+
+    /**
+     * Reads one RFC 4180 record: comma separated, optionally double-quoted fields,
+     * "" as an escaped quote, line breaks allowed inside quotes.
+     *
+     * @return the fields, or null at end of input
+     */
+    private static List<String> readCsvRecord(Reader reader) throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean any = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            any = true;
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+        if (!any) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Accumulates rows of one import and writes them chunk by chunk.
+     */
+    private class ImportRun {
+        private final long startNanos = System.nanoTime();
+        private final List<String> errors = new ArrayList<>();
+        private List<Equipment> pending = new ArrayList<>(chunkSize);
+        private long firstPendingRow;
+        private long lastPendingRow;
+        private long imported;
+        private long rejected;
+
+        void accept(long row, EquipmentCreateDTO dto) {
+            if (dto.getName() == null || dto.getName().isBlank()) {
+                reject(row, "name is required");
+                return;
+            }
+            if (dto.getCategory() == null || dto.getCategory().isBlank()) {
+                reject(row, "category is required");
+                return;
+            }
+            if (dto.getQuantity() < 0) {
+                reject(row, "quantity must not be negative");
+                return;
+            }
+            if (pending.isEmpty()) {
+                firstPendingRow = row;
+            }
+            pending.add(toEntity(dto));
+            lastPendingRow = row;
+            if (pending.size() >= chunkSize) {
+                flushPending();
+            }
+        }
+
+        void reject(long row, String message) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add("Row " + row + ": " + message);
+            }
+        }
+
+        void abort(IOException e) {
+            log.warn("Equipment import stopped on unreadable input", e);
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add("Input could not be read past this point: " + e.getMessage());
+            }
+        }
+
+        EquipmentImportResultDTO finish() {
+            flushPending();
+            long elapsedNanos = System.nanoTime() - startNanos;
+            return EquipmentImportResultDTO.builder()
+                    .imported(imported)
+                    .rejected(rejected)
+                    .errors(errors)
+                    .elapsedMs(elapsedNanos / 1_000_000)
+                    .rowsPerSecond(elapsedNanos == 0 ? 0 : imported * 1_000_000_000.0 / elapsedNanos)
+                    .build();
+        }
+
+        private void flushPending() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<Equipment> chunk = pending;
+            pending = new ArrayList<>(chunkSize);
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    for (Equipment equipment : chunk) {
+                        entityManager.persist(equipment);
+                        eventPublisher.publishEvent(new EquipmentChangedEvent(equipment.getId(), null,
+                                new EquipmentChangedEvent.StockSnapshot(equipment.getCategory(),
+                                        equipment.getQuantity(), equipment.getAvailable())));
+                    }
+                    entityManager.flush();
+                    entityManager.clear();
+                });
+                imported += chunk.size();
+            } catch (RuntimeException e) {
+                log.warn("Equipment import chunk of {} rows rolled back", chunk.size(), e);
+                rejected += chunk.size();
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add("Rows " + firstPendingRow + "-" + lastPendingRow + " rolled back: " + e.getMessage());
+                }
+            }
+        }
+
+        private Equipment toEntity(EquipmentCreateDTO dto) {
+            return Equipment.builder()
+                    .name(dto.getName())
+                    .category(dto.getCategory())
+                    .description(dto.getDescription())
+                    .quantity(dto.getQuantity())
+                    .available(dto.getQuantity())
+                    .condition(dto.getCondition())
+                    .location(dto.getLocation())
+                    .specifications(dto.getSpecifications())
+                    .usageInstructions(dto.getUsageInstructions())
+                    .restrictions(dto.getRestrictions())
+                    .lastMaintenance(LocalDate.now())
+                    .maintenanceInterval(dto.getMaintenanceInterval())
+                    .build();
+        }
+    }
+}
@@ -1,36 +1,116 @@
 package org.bits.assignment.equipmentservice.service.impl;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.bits.assignment.equipmentservice.config.CacheConfig;
 import org.bits.assignment.equipmentservice.dto.EquipmentCreateDTO;
 import org.bits.assignment.equipmentservice.dto.EquipmentDTO;
+import org.bits.assignment.equipmentservice.dto.EquipmentPageDTO;
 import org.bits.assignment.equipmentservice.entity.Equipment;
+import org.bits.assignment.equipmentservice.event.EquipmentChangedEvent;
+import org.bits.assignment.equipmentservice.event.StockChangedEvent;
+import org.bits.assignment.equipmentservice.exception.EquipmentUnavailableException;
 import org.bits.assignment.equipmentservice.repository.EquipmentRepository;
+import org.bits.assignment.equipmentservice.service.CatalogQueries;
 import org.bits.assignment.equipmentservice.service.EquipmentService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of EquipmentService that manages Equipment entities using EquipmentRepository.
  * Handles creation, retrieval, update, deletion and searching of equipment items.
+ * Catalog reads are served from the caches in CacheConfig; entries are evicted
+ * after equipment or stock changes commit. Reads load with {@code sync = true} so the
+ * caches can discard values loaded across an eviction.
  */
 @Service
 @RequiredArgsConstructor
 public class EquipmentServiceImpl implements EquipmentService {
 
+    // Upper bound on ids per specifications query, well under PostgreSQL's bind parameter limit
+    private static final int SPECIFICATION_BATCH_SIZE = 1000;
+    private static final int STREAM_BATCH_SIZE = 500;
+
     private final EquipmentRepository equipmentRepository;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
+
+    @Value("${equipment.pagination.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${equipment.pagination.max-size:500}")
+    private int maxPageSize;
 
     @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.EQUIPMENT_LIST, key = "'all'", sync = true)
     public List<EquipmentDTO> getAllEquipment() {
-        return equipmentRepository.findAll()
-                .stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+        return toDTOs(equipmentRepository.findAll());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EquipmentPageDTO getEquipmentPage(String cursor, Integer size) {
+        int pageSize = clampPageSize(size);
+        long afterId = CatalogQueries.decodeCursor(cursor);
+
+        // Fetch one extra row to learn whether another page follows without a count query
+        List<Equipment> rows = equipmentRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(pageSize + 1));
+        boolean hasMore = rows.size() > pageSize;
+        List<Equipment> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        return EquipmentPageDTO.builder()
+                .items(toDTOs(page))
+                .size(page.size())
+                .nextCursor(hasMore ? CatalogQueries.encodeCursor(page.get(page.size() - 1).getId()) : null)
+                .build();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public void streamAllEquipment(Consumer<EquipmentDTO> consumer) {
+        List<Equipment> batch = new ArrayList<>(STREAM_BATCH_SIZE);
+        try (Stream<Equipment> rows = equipmentRepository.streamAllOrderedById()) {
+            rows.forEach(equipment -> {
+                batch.add(equipment);
+                if (batch.size() == STREAM_BATCH_SIZE) {
+                    writeBatch(batch, consumer);
+                }
+            });
+        }
+        writeBatch(batch, consumer);
+    }
+
+    private void writeBatch(List<Equipment> batch, Consumer<EquipmentDTO> consumer) {
+        toDTOs(batch).forEach(consumer);
+        // Detach rows once written so the persistence context stays flat
+        batch.forEach(entityManager::detach);
+        batch.clear();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.EQUIPMENT_BY_ID, sync = true)
     public EquipmentDTO getEquipmentById(Long id) {
         return equipmentRepository.findById(id)
                 .map(this::toDTO)
@@ -38,21 +118,22 @@ public class EquipmentServiceImpl implements EquipmentService {
     }
 
     @Override
-    public List<EquipmentDTO> searchEquipment(String query, String category) {
-        if (query != null && !query.isEmpty() && category != null && !category.isEmpty()) {
-            return equipmentRepository.findByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(query, query)
-                    .stream()
-                    .filter(e -> e.getCategory().equalsIgnoreCase(category))
-                    .map(this::toDTO)
-                    .collect(Collectors.toList());
-        } else if (query != null && !query.isEmpty()) {
-            return equipmentRepository.findByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCase(query, query)
-                    .stream().map(this::toDTO).collect(Collectors.toList());
-        } else if (category != null && !category.isEmpty()) {
-            return equipmentRepository.findByCategory(category)
-                    .stream().map(this::toDTO).collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    // Only category browsing is cached; free-text queries are too varied to hit often
+    @Cacheable(cacheNames = CacheConfig.EQUIPMENT_BY_CATEGORY, key = "{#category, #page, #size}",
+            condition = "#query == null || #query.isBlank()", sync = true)
+    public List<EquipmentDTO> searchEquipment(String query, String category, int page, Integer size) {
+        int pageSize = clampPageSize(size);
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), pageSize);
+        String tsQuery = CatalogQueries.toPrefixTsQuery(query);
+        String categoryFilter = category == null || category.isEmpty() ? null : category;
+
+        if (tsQuery != null) {
+            return toDTOs(equipmentRepository.searchRanked(tsQuery, categoryFilter, pageSize, pageRequest.getOffset()));
+        } else if (categoryFilter != null) {
+            return toDTOs(equipmentRepository.findByCategoryIgnoreCaseOrderByIdAsc(categoryFilter, pageRequest));
         } else {
-            return getAllEquipment();
+            return toDTOs(equipmentRepository.findAllByOrderByIdAsc(pageRequest));
         }
     }
 
@@ -73,35 +154,121 @@ public class EquipmentServiceImpl implements EquipmentService {
                 .maintenanceInterval(dto.getMaintenanceInterval())
                 .build();
 
-        return toDTO(equipmentRepository.save(equipment));
+        Equipment saved = equipmentRepository.save(equipment);
+        eventPublisher.publishEvent(new EquipmentChangedEvent(saved.getId(), null, snapshot(saved)));
+        return toDTO(saved);
     }
 
     @Override
+    @Transactional
     public EquipmentDTO updateEquipment(Long id, EquipmentCreateDTO dto) {
         Equipment equipment = equipmentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Equipment not found"));
+        EquipmentChangedEvent.StockSnapshot before = snapshot(equipment);
 
         equipment.setName(dto.getName());
         equipment.setCategory(dto.getCategory());
         equipment.setDescription(dto.getDescription());
-        equipment.setQuantity(dto.getQuantity());
-        equipment.setAvailable(dto.getQuantity());
         equipment.setCondition(dto.getCondition());
         equipment.setLocation(dto.getLocation());
         equipment.setSpecifications(dto.getSpecifications());
         equipment.setUsageInstructions(dto.getUsageInstructions());
         equipment.setRestrictions(dto.getRestrictions());
         equipment.setMaintenanceInterval(dto.getMaintenanceInterval());
+        equipmentRepository.save(equipment);
 
-        return toDTO(equipmentRepository.save(equipment));
+        // Resize in place so units currently on loan stay accounted for
+        if (dto.getQuantity() != equipment.getQuantity()
+                && equipmentRepository.resizeStock(id, dto.getQuantity()) == 0) {
+            throw new EquipmentUnavailableException("Quantity cannot be lower than the units currently on loan");
+        }
+
+        Equipment updated = equipmentRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Equipment not found"));
+        eventPublisher.publishEvent(new EquipmentChangedEvent(id, before, snapshot(updated)));
+        return toDTO(updated);
     }
 
     @Override
+    @Transactional
     public void deleteEquipment(Long id) {
-        equipmentRepository.deleteById(id);
+        equipmentRepository.findById(id).ifPresent(equipment -> {
+            equipmentRepository.delete(equipment);
+            eventPublisher.publishEvent(new EquipmentChangedEvent(id, snapshot(equipment), null));
+        });
+    }
+
+    // Evict before DataVersionServiceImpl bumps the ETag version, so a new tag never fronts a stale body
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(EquipmentChangedEvent event) {
+        evictCatalog(event.equipmentId());
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(StockChangedEvent event) {
+        evictCatalog(event.equipmentId());
+    }
+
+    private void evictCatalog(Long equipmentId) {
+        evict(CacheConfig.EQUIPMENT_BY_ID, equipmentId);
+        clear(CacheConfig.EQUIPMENT_LIST);
+        clear(CacheConfig.EQUIPMENT_BY_CATEGORY);
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private static EquipmentChangedEvent.StockSnapshot snapshot(Equipment equipment) {
+        return new EquipmentChangedEvent.StockSnapshot(equipment.getCategory(), equipment.getQuantity(), equipment.getAvailable());
+    }
+
+    private int clampPageSize(Integer size) {
+        return size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+    }
+
+    /**
+     * Maps a list of entities, loading their specifications with one query per
+     * {@value #SPECIFICATION_BATCH_SIZE} rows instead of one lazy load per row.
+     */
+    private List<EquipmentDTO> toDTOs(List<Equipment> equipment) {
+        Map<Long, List<String>> specifications = loadSpecifications(equipment);
+        return equipment.stream()
+                .map(e -> toDTO(e, specifications.getOrDefault(e.getId(), List.of())))
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, List<String>> loadSpecifications(List<Equipment> equipment) {
+        Map<Long, List<String>> specifications = new HashMap<>();
+        List<Long> ids = equipment.stream().map(Equipment::getId).collect(Collectors.toList());
+        for (int from = 0; from < ids.size(); from += SPECIFICATION_BATCH_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + SPECIFICATION_BATCH_SIZE, ids.size()));
+            for (EquipmentRepository.SpecificationRow row : equipmentRepository.findSpecificationsByEquipmentIds(chunk)) {
+                specifications.computeIfAbsent(row.getEquipmentId(), id -> new ArrayList<>()).add(row.getSpecification());
+            }
+        }
+        return specifications;
+    }
+
+    EquipmentDTO toDTO(Equipment equipment) {
+        // Copy inside the transaction: the lazy collection cannot load once the DTO is cached or serialized
+        List<String> specifications = equipment.getSpecifications();
+        return toDTO(equipment, specifications == null ? null : List.copyOf(specifications));
     }
 
-    private EquipmentDTO toDTO(Equipment equipment) {
+    EquipmentDTO toDTO(Equipment equipment, List<String> specifications) {
         return EquipmentDTO.builder()
                 .id(equipment.getId())
                 .name(equipment.getName())
@@ -111,7 +278,7 @@ public class EquipmentServiceImpl implements EquipmentService {
                 .available(equipment.getAvailable())
                 .condition(equipment.getCondition())
                 .location(equipment.getLocation())
-                .specifications(equipment.getSpecifications())
+                .specifications(specifications)
                 .usageInstructions(equipment.getUsageInstructions())
                 .restrictions(equipment.getRestrictions())
                 .lastMaintenance(equipment.getLastMaintenance())
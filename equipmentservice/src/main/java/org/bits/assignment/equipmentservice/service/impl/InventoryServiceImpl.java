@@ -0,0 +1,64 @@
+package org.bits.assignment.equipmentservice.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bits.assignment.equipmentservice.event.StockChangedEvent;
+import org.bits.assignment.equipmentservice.exception.EquipmentNotFoundException;
+import org.bits.assignment.equipmentservice.exception.EquipmentUnavailableException;
+import org.bits.assignment.equipmentservice.repository.EquipmentRepository;
+import org.bits.assignment.equipmentservice.service.InventoryService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementation of InventoryService backed by conditional UPDATE statements on
+ * the equipment row, so the database serializes concurrent reservations and
+ * {@code available} can never go negative. Each successful change publishes a
+ * {@link StockChangedEvent}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InventoryServiceImpl implements InventoryService {
+
+    private final EquipmentRepository equipmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional
+    public boolean tryReserve(Long equipmentId) {
+        if (equipmentRepository.reserveUnit(equipmentId) == 0) {
+            return false;
+        }
+        publishStockChange(equipmentId, -1);
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public void reserve(Long equipmentId) {
+        if (tryReserve(equipmentId)) {
+            return;
+        }
+        if (!equipmentRepository.existsById(equipmentId)) {
+            throw new EquipmentNotFoundException("Equipment not found");
+        }
+        throw new EquipmentUnavailableException("No units of equipment " + equipmentId + " are available");
+    }
+
+    @Override
+    @Transactional
+    public void release(Long equipmentId) {
+        if (equipmentRepository.releaseUnit(equipmentId) == 0) {
+            log.warn("Release of equipment {} ignored: not found or already fully in stock", equipmentId);
+            return;
+        }
+        publishStockChange(equipmentId, 1);
+    }
+
+    private void publishStockChange(Long equipmentId, int delta) {
+        String category = equipmentRepository.findCategoryById(equipmentId).orElse(null);
+        eventPublisher.publishEvent(new StockChangedEvent(equipmentId, category, delta));
+    }
+}
@@ -1,41 +1,105 @@
 package org.bits.assignment.equipmentservice.service.impl;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.bits.assignment.equipmentservice.dto.RequestCreateDTO;
 import org.bits.assignment.equipmentservice.dto.RequestDTO;
 import org.bits.assignment.equipmentservice.dto.RequestStatusUpdateDTO;
+import org.bits.assignment.equipmentservice.dto.UserRequestCountsDTO;
+import org.bits.assignment.equipmentservice.entity.Equipment;
 import org.bits.assignment.equipmentservice.entity.Request;
+import org.bits.assignment.equipmentservice.event.RequestStatusChangedEvent;
+import org.bits.assignment.equipmentservice.event.RequestsMarkedOverdueEvent;
+import org.bits.assignment.equipmentservice.exception.EquipmentNotFoundException;
+import org.bits.assignment.equipmentservice.exception.InvalidStatusTransitionException;
+import org.bits.assignment.equipmentservice.repository.EquipmentRepository;
 import org.bits.assignment.equipmentservice.repository.RequestRepository;
+import org.bits.assignment.equipmentservice.service.InventoryService;
 import org.bits.assignment.equipmentservice.service.RequestService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * Implementation of RequestService that handles creation and status updates
  * for Request entities using the RequestRepository.
+ * Status changes follow the lifecycle in Request.Status#canTransitionTo; those that check
+ * equipment out or back in adjust stock through the InventoryService in the same transaction.
+ * A scheduled sweep marks approved requests overdue in bounded, set-based batches.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RequestServiceImpl implements RequestService {
 
+    private static final List<Request.Status> ACTIVE_STATUSES =
+            Arrays.stream(Request.Status.values()).filter(Request.Status::isActive).toList();
+    private static final List<Request.Status> BORROW_STATUSES =
+            Arrays.stream(Request.Status.values()).filter(Request.Status::countsAsBorrow).toList();
+
     private final RequestRepository requestRepository;
+    private final EquipmentRepository equipmentRepository;
+    private final InventoryService inventoryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${requests.counts.max-user-ids:1000}")
+    private int maxCountUserIds;
+
+    @Value("${requests.overdue.batch-size:1000}")
+    private int overdueBatchSize;
+
+    @Value("${requests.overdue.max-batches-per-run:100}")
+    private int overdueMaxBatches;
 
     @Override
     public List<RequestDTO> getRequestsByUserId(String userId) {
-        return requestRepository.findByUserId(userId)
+        return requestRepository.findByUserIdOrderByCreatedAtDesc(userId)
                 .stream()
                 .map(this::toDTO)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<UserRequestCountsDTO> getCountsByUserIds(List<String> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+        Set<String> distinct = new LinkedHashSet<>(userIds);
+        if (distinct.size() > maxCountUserIds) {
+            throw new IllegalArgumentException("At most " + maxCountUserIds + " user ids per call");
+        }
+
+        Map<String, UserRequestCountsDTO> counts = new HashMap<>();
+        for (RequestRepository.UserCountRow row : requestRepository.countPerUser(distinct, ACTIVE_STATUSES, BORROW_STATUSES)) {
+            counts.put(row.getUserId(), new UserRequestCountsDTO(row.getUserId(), row.getActive(), row.getBorrows()));
+        }
+        // Users without any request are reported with zero counts rather than left out
+        return distinct.stream()
+                .map(userId -> counts.getOrDefault(userId, new UserRequestCountsDTO(userId, 0, 0)))
+                .toList();
+    }
+
     @Override
     public RequestDTO createRequest(RequestCreateDTO dto) {
+        Equipment equipment = equipmentRepository.findById(parseEquipmentId(dto.getEquipmentId()))
+                .orElseThrow(() -> new EquipmentNotFoundException("Equipment not found"));
         Request request = Request.builder()
                 .userId(dto.getUserId())
                 .equipmentId(dto.getEquipmentId())
+                .equipmentName(equipment.getName())
                 .requestDate(dto.getRequestDate())
                 .returnDate(dto.getReturnDate())
                 .notes(dto.getNotes())
@@ -44,19 +108,63 @@ public class RequestServiceImpl implements RequestService {
                 .build();
 
         Request saved = requestRepository.save(request);
+        eventPublisher.publishEvent(RequestStatusChangedEvent.of(saved, null));
         return toDTO(saved);
     }
 
     @Override
+    @Transactional
     public RequestDTO updateStatus(Long requestId, RequestStatusUpdateDTO dto) {
-        Request request = requestRepository.findById(requestId)
+        // Lock the row so the transition is checked against the status the overdue sweep would see
+        Request request = requestRepository.findLockedById(requestId)
                 .orElseThrow(() -> new RuntimeException("Request not found"));
 
-        request.setStatus(Request.Status.valueOf(dto.getStatus().toUpperCase()));
+        Request.Status previous = request.getStatus();
+        Request.Status next = Request.Status.valueOf(dto.getStatus().toUpperCase());
+        if (next == previous) {
+            // Repeating the current status is a no-op, so retried updates are safe
+            return toDTO(request);
+        }
+        if (!previous.canTransitionTo(next)) {
+            throw new InvalidStatusTransitionException("Request " + requestId + " cannot change from " + previous + " to " + next);
+        }
+        if (!previous.holdsStock() && next.holdsStock()) {
+            inventoryService.reserve(parseEquipmentId(request.getEquipmentId()));
+        } else if (previous.holdsStock() && !next.holdsStock()) {
+            inventoryService.release(parseEquipmentId(request.getEquipmentId()));
+        }
+
+        request.setStatus(next);
         Request updated = requestRepository.save(request);
+        eventPublisher.publishEvent(RequestStatusChangedEvent.of(updated, previous));
         return toDTO(updated);
     }
 
+    @Override
+    @Scheduled(fixedDelayString = "${requests.overdue.sweep-interval-ms:600000}")
+    public int markOverdueRequests() {
+        LocalDate today = LocalDate.now();
+        int marked = 0;
+        for (int batch = 0; batch < overdueMaxBatches; batch++) {
+            // One short transaction per batch keeps row locks brief and lets updateStatus interleave
+            int count = transactionTemplate.execute(status -> {
+                int updated = requestRepository.markOverdue(today, overdueBatchSize);
+                if (updated > 0) {
+                    eventPublisher.publishEvent(new RequestsMarkedOverdueEvent(updated));
+                }
+                return updated;
+            });
+            marked += count;
+            if (count < overdueBatchSize) {
+                break;
+            }
+        }
+        if (marked > 0) {
+            log.info("Marked {} requests overdue", marked);
+        }
+        return marked;
+    }
+
     private RequestDTO toDTO(Request request) {
         return RequestDTO.builder()
                 .id(request.getId())
@@ -70,4 +178,19 @@ public class RequestServiceImpl implements RequestService {
                 .createdAt(request.getCreatedAt())
                 .build();
     }
+
+    /**
+     * Equipment ids are stored as strings on requests; anything that is not a number
+     * is rejected as a bad argument (400) instead of surfacing as a parse failure.
+     */
+    private static Long parseEquipmentId(String equipmentId) {
+        if (equipmentId == null || equipmentId.isBlank()) {
+            throw new IllegalArgumentException("Equipment id is required");
+        }
+        try {
+            return Long.valueOf(equipmentId.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Equipment id must be a number: " + equipmentId);
+        }
+    }
 }
@@ -0,0 +1,9 @@
+-- =============================
+-- Indexes for hot lookup paths
+-- =============================
+
+-- RequestRepository.findByUserIdOrderByCreatedAtDesc: a user's requests, newest first
+CREATE INDEX idx_requests_user_id_created_at ON requests (user_id, created_at);
+
+-- ApprovalRepository.findByStatusOrderByCreatedAtDesc: approval queue by status, newest first
+CREATE INDEX idx_approvals_status_created_at ON approvals (status, created_at);
@@ -0,0 +1,6 @@
+-- =============================
+-- Overdue sweep
+-- =============================
+
+-- RequestRepository.markOverdue: approved requests ordered by return date
+CREATE INDEX idx_requests_status_return_date ON requests (status, return_date);
@@ -0,0 +1,39 @@
+package org.bits.assignment.equipmentservice;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Points the application at an embedded PostgreSQL, started once per test JVM.
+ *
+ * Full-text search (search_vector, to_tsquery) and the vendor migrations only exist
+ * on PostgreSQL, so tests of those paths run against the real database instead of
+ * the H2 "test" profile. Test classes share it, and so should use their own names and
+ * categories rather than expect an empty equipment table.
+ */
+public abstract class PostgresTestSupport {
+
+    private static EmbeddedPostgres postgres;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> postgres().getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+    }
+
+    protected static synchronized EmbeddedPostgres postgres() {
+        if (postgres == null) {
+            try {
+                postgres = EmbeddedPostgres.start();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not start embedded PostgreSQL", e);
+            }
+        }
+        return postgres;
+    }
+}
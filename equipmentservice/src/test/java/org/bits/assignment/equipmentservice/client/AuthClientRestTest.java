@@ -0,0 +1,166 @@
+package org.bits.assignment.equipmentservice.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.bits.assignment.equipmentservice.client.dto.UserValidationResponse;
+import org.bits.assignment.equipmentservice.config.RestClientConfig;
+import org.bits.assignment.equipmentservice.exception.AuthServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Exercises the client against a local HTTP server standing in for user-service, with the
+ * production RestTemplate and circuit breaker configuration and a short read timeout.
+ */
+class AuthClientRestTest {
+
+    private static final long READ_TIMEOUT_MS = 200;
+    private static final String VALID_USER = "{\"id\":7,\"email\":\"admin@example.com\",\"role\":\"ADMIN\",\"status\":\"active\"}";
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final ExecutorService handlers = Executors.newCachedThreadPool();
+    private volatile Handler handler;
+    private HttpServer server;
+    private CloseableHttpClient httpClient;
+    private CircuitBreaker circuitBreaker;
+    private AuthClientRest authClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/auth/validate", exchange -> {
+            requests.incrementAndGet();
+            try (exchange) {
+                handler.handle(exchange);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        server.setExecutor(handlers);
+        server.start();
+
+        RestClientConfig config = new RestClientConfig();
+        httpClient = config.httpClient(1000, READ_TIMEOUT_MS, 500, 50);
+        circuitBreaker = config.authServiceCircuitBreaker(50, 10_000, READ_TIMEOUT_MS);
+        authClient = new AuthClientRest(config.restTemplate(httpClient), circuitBreaker,
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/api/auth/validate", new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.stop(0);
+        handlers.shutdownNow();
+        httpClient.close();
+    }
+
+    @Test
+    void concurrentValidationsOfOneTokenShareOneRequest() throws Exception {
+        int callers = 8;
+        CountDownLatch answer = new CountDownLatch(1);
+        handler = exchange -> {
+            answer.await();
+            respond(exchange, 200, VALID_USER);
+        };
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        List<Future<UserValidationResponse>> results = new ArrayList<>();
+        ExecutorService pool = Executors.newFixedThreadPool(callers, task -> {
+            Thread thread = new Thread(task);
+            threads.add(thread);
+            return thread;
+        });
+        try {
+            for (int i = 0; i < callers; i++) {
+                results.add(pool.submit(() -> authClient.validateToken("Bearer shared")));
+            }
+            // One caller is on the wire; the rest must be parked on its call before it is answered
+            awaitUntil(() -> requests.get() == 1
+                    && threads.stream().filter(thread -> thread.getState() == Thread.State.WAITING).count() == callers - 1);
+            answer.countDown();
+
+            for (Future<UserValidationResponse> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).getEmail()).isEqualTo("admin@example.com");
+            }
+            assertThat(requests).hasValue(1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void rejectedTokensDoNotOpenTheCircuit() {
+        handler = exchange -> respond(exchange, 401, "{\"error\":\"invalid token\"}");
+
+        for (int i = 0; i < 20; i++) {
+            String token = "Bearer rejected-" + i;
+            assertThatThrownBy(() -> authClient.validateToken(token))
+                    .isInstanceOf(HttpClientErrorException.Unauthorized.class);
+        }
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        handler = exchange -> respond(exchange, 200, VALID_USER);
+        assertThat(authClient.validateToken("Bearer valid").getId()).isEqualTo(7L);
+    }
+
+    @Test
+    void timeoutsOpenTheCircuit() {
+        handler = exchange -> {
+            Thread.sleep(READ_TIMEOUT_MS * 5);
+            respond(exchange, 200, VALID_USER);
+        };
+
+        for (int i = 0; i < 10; i++) {
+            String token = "Bearer slow-" + i;
+            assertThatThrownBy(() -> authClient.validateToken(token))
+                    .isInstanceOf(AuthServiceUnavailableException.class);
+        }
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> authClient.validateToken("Bearer after"))
+                .isInstanceOf(AuthServiceUnavailableException.class)
+                .hasCauseInstanceOf(CallNotPermittedException.class);
+        assertThat(requests).hasValue(10);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        void handle(HttpExchange exchange) throws IOException, InterruptedException;
+    }
+}
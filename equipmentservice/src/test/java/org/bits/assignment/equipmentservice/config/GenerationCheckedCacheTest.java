@@ -0,0 +1,40 @@
+package org.bits.assignment.equipmentservice.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GenerationCheckedCacheTest {
+
+    private final GenerationCheckedCache cache = new GenerationCheckedCache(new ConcurrentMapCache("test", false));
+
+    @Test
+    void loadsOnceAndServesHits() {
+        assertThat(cache.get(1L, () -> "Projector")).isEqualTo("Projector");
+        assertThat(cache.get(1L, () -> "not loaded again")).isEqualTo("Projector");
+    }
+
+    @Test
+    void valueLoadedAcrossAnEvictionIsNotCached() {
+        // The loader read the row, then a write committed and evicted before the load returned
+        String stale = cache.get(1L, () -> {
+            cache.evict(1L);
+            return "Projector";
+        });
+
+        assertThat(stale).isEqualTo("Projector");
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(1L, () -> "Projector v2")).isEqualTo("Projector v2");
+    }
+
+    @Test
+    void clearingAnyKeyDiscardsLoadsInFlight() {
+        cache.get(1L, () -> {
+            cache.clear();
+            return "Projector";
+        });
+
+        assertThat(cache.get(1L)).isNull();
+    }
+}
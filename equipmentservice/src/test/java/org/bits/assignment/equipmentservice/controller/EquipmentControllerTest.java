@@ -0,0 +1,184 @@
+package org.bits.assignment.equipmentservice.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import org.bits.assignment.equipmentservice.config.CacheConfig;
+import org.bits.assignment.equipmentservice.dto.EquipmentCreateDTO;
+import org.bits.assignment.equipmentservice.entity.Equipment;
+import org.bits.assignment.equipmentservice.event.EquipmentChangedEvent;
+import org.bits.assignment.equipmentservice.repository.EquipmentRepository;
+import org.bits.assignment.equipmentservice.service.DataVersionService;
+import org.bits.assignment.equipmentservice.service.EquipmentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Exercises the equipment endpoints through the full MVC stack, including JSON
+ * serialization outside the transaction (open-in-view is off). Security filters are
+ * left out; access rules are covered by SecurityConfig.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+class EquipmentControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EquipmentRepository equipmentRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EquipmentService equipmentService;
+
+    @Autowired
+    private ListenerOrderProbe listenerOrderProbe;
+
+    @AfterEach
+    void cleanUp() {
+        equipmentRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        listenerOrderProbe.observations.clear();
+    }
+
+    @Test
+    void keysetPagingWalksTheCatalogInIdOrder() throws Exception {
+        for (int i = 1; i <= 5; i++) {
+            save("Item " + i);
+        }
+
+        String first = mockMvc.perform(get("/api/equipment").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].name", contains("Item 1", "Item 2")))
+                .andReturn().getResponse().getContentAsString();
+        String second = mockMvc.perform(get("/api/equipment").param("size", "2").param("cursor", nextCursor(first)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].name", contains("Item 3", "Item 4")))
+                .andReturn().getResponse().getContentAsString();
+        mockMvc.perform(get("/api/equipment").param("size", "2").param("cursor", nextCursor(second)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].name", contains("Item 5")))
+                .andExpect(jsonPath("$.nextCursor", nullValue()));
+
+        // A cursor alone still pages, with the default page size
+        mockMvc.perform(get("/api/equipment").param("cursor", nextCursor(first)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].name", contains("Item 3", "Item 4", "Item 5")))
+                .andExpect(jsonPath("$.nextCursor", nullValue()));
+    }
+
+    @Test
+    void detailSerializesSpecificationsOnCacheMissAndHit() throws Exception {
+        Long id = save("Microscope", "1000x magnification", "LED illumination");
+
+        // The first call loads and caches the DTO, the second is served from the cache
+        for (int call = 0; call < 2; call++) {
+            mockMvc.perform(get("/api/equipment/{id}", id))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.specifications", contains("1000x magnification", "LED illumination")));
+        }
+    }
+
+    @Test
+    void listingAnswers304UntilTheCatalogChanges() throws Exception {
+        Long id = save("Microscope");
+
+        String etag = mockMvc.perform(get("/api/equipment"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name", contains("Microscope")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotBlank();
+        mockMvc.perform(get("/api/equipment").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        String before = listenerOrderProbe.dataVersionService.equipmentVersion();
+        equipmentService.updateEquipment(id, EquipmentCreateDTO.builder()
+                .name("Stereo microscope")
+                .category("Laboratory")
+                .quantity(2)
+                .build());
+
+        // Between the two listeners the cache is already empty and the tag not yet bumped
+        assertThat(listenerOrderProbe.observations).containsExactly(new Observation(false, before));
+        String newEtag = mockMvc.perform(get("/api/equipment").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name", contains("Stereo microscope")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(newEtag).isNotEqualTo(etag);
+        mockMvc.perform(get("/api/equipment").header(HttpHeaders.IF_NONE_MATCH, newEtag))
+                .andExpect(status().isNotModified());
+    }
+
+    private Long save(String name, String... specifications) {
+        return equipmentRepository.save(Equipment.builder()
+                .name(name)
+                .category("Laboratory")
+                .quantity(2)
+                .available(2)
+                .specifications(List.of(specifications))
+                .build()).getId();
+    }
+
+    private static String nextCursor(String pageJson) {
+        return JsonPath.read(pageJson, "$.nextCursor");
+    }
+
+    record Observation(boolean listCached, String version) {
+    }
+
+    /**
+     * Runs between the catalog eviction and the version bump and records what it sees.
+     */
+    static class ListenerOrderProbe {
+
+        final List<Observation> observations = new CopyOnWriteArrayList<>();
+        final CacheManager cacheManager;
+        final DataVersionService dataVersionService;
+
+        ListenerOrderProbe(CacheManager cacheManager, DataVersionService dataVersionService) {
+            this.cacheManager = cacheManager;
+            this.dataVersionService = dataVersionService;
+        }
+
+        @Order(0)
+        @TransactionalEventListener(fallbackExecution = true)
+        public void on(EquipmentChangedEvent event) {
+            boolean listCached = cacheManager.getCache(CacheConfig.EQUIPMENT_LIST).get("all") != null;
+            observations.add(new Observation(listCached, dataVersionService.equipmentVersion()));
+        }
+    }
+
+    @TestConfiguration
+    static class ProbeConfig {
+
+        @Bean
+        ListenerOrderProbe listenerOrderProbe(CacheManager cacheManager, DataVersionService dataVersionService) {
+            return new ListenerOrderProbe(cacheManager, dataVersionService);
+        }
+    }
+}
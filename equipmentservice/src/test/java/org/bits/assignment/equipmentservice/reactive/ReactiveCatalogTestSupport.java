@@ -0,0 +1,111 @@
+package org.bits.assignment.equipmentservice.reactive;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.bits.assignment.equipmentservice.PostgresTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Starts ReactiveCatalogApplication on a random port against the embedded PostgreSQL,
+ * with user-service replaced by a local stub.
+ *
+ * The reactive profile does not own the schema, so Flyway is switched on here to create it.
+ * Tokens are not cached beyond their in-flight lookup, so each request reaches the stub
+ * unless it shares a lookup already running. The stub answers the bearer tokens "admin"
+ * and "student" with an active user of that role and rejects anything else with 401,
+ * unless a test installs its own handler.
+ */
+@SpringBootTest(classes = ReactiveCatalogApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.main.web-application-type=reactive",
+                "spring.flyway.enabled=true",
+                "reactive.auth.cache-ttl-seconds=0"
+        })
+@ActiveProfiles(ReactiveCatalogApplication.PROFILE)
+abstract class ReactiveCatalogTestSupport extends PostgresTestSupport {
+
+    private static HttpServer userService;
+    static final AtomicInteger validations = new AtomicInteger();
+    static volatile ValidateHandler validateHandler;
+
+    @DynamicPropertySource
+    static void reactiveProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.r2dbc.url", () -> "r2dbc:postgresql://localhost:" + postgres().getPort() + "/postgres");
+        registry.add("spring.r2dbc.username", () -> "postgres");
+        registry.add("spring.r2dbc.password", () -> "");
+        registry.add("spring.flyway.url", () -> postgres().getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.flyway.user", () -> "postgres");
+        registry.add("spring.flyway.password", () -> "");
+        registry.add("auth.service.url", () -> "http://127.0.0.1:" + userService().getAddress().getPort() + "/api/auth/validate");
+    }
+
+    @BeforeEach
+    void resetUserService() {
+        validations.set(0);
+        validateHandler = ReactiveCatalogTestSupport::knownUsers;
+    }
+
+    private static synchronized HttpServer userService() {
+        if (userService == null) {
+            try {
+                userService = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not start the user-service stub", e);
+            }
+            userService.createContext("/api/auth/validate", exchange -> {
+                validations.incrementAndGet();
+                try (exchange) {
+                    validateHandler.handle(exchange);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            userService.setExecutor(Executors.newCachedThreadPool(task -> {
+                Thread thread = new Thread(task, "user-service-stub");
+                thread.setDaemon(true);
+                return thread;
+            }));
+            userService.start();
+        }
+        return userService;
+    }
+
+    static void knownUsers(HttpExchange exchange) throws IOException {
+        String role = switch (String.valueOf(exchange.getRequestHeaders().getFirst(HttpHeaders.AUTHORIZATION))) {
+            case "Bearer admin" -> "ADMIN";
+            case "Bearer student" -> "STUDENT";
+            default -> null;
+        };
+        if (role == null) {
+            respond(exchange, 401, "{\"error\":\"invalid token\"}");
+        } else {
+            respond(exchange, 200, "{\"id\":1,\"email\":\"" + role.toLowerCase() + "@example.com\",\"role\":\""
+                    + role + "\",\"status\":\"active\"}");
+        }
+    }
+
+    static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    @FunctionalInterface
+    interface ValidateHandler {
+        void handle(HttpExchange exchange) throws IOException, InterruptedException;
+    }
+}
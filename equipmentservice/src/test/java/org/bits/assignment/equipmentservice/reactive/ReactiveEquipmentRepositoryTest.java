@@ -0,0 +1,100 @@
+package org.bits.assignment.equipmentservice.reactive;
+
+import org.bits.assignment.equipmentservice.dto.EquipmentDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the R2DBC catalog queries against PostgreSQL. Rows are created in a category of
+ * their own and are the newest in the table, so they are the last ones in id order.
+ */
+class ReactiveEquipmentRepositoryTest extends ReactiveCatalogTestSupport {
+
+    @Autowired
+    private ReactiveEquipmentRepository equipmentRepository;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    private String category;
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        category = "Reactive-" + UUID.randomUUID().toString().substring(0, 8);
+        ids.add(insert("Oscilloscope", "100 MHz", "2 channels"));
+        ids.add(insert("Multimeter"));
+        ids.add(insert("Signal generator", "20 MHz"));
+    }
+
+    @Test
+    void pagesByKeyset() {
+        List<EquipmentDTO> first = equipmentRepository.findAfterId(ids.get(0) - 1, 2).collectList().block();
+        List<EquipmentDTO> rest = equipmentRepository.findAfterId(first.get(1).getId(), 2).collectList().block();
+
+        assertThat(first).extracting(EquipmentDTO::getId).containsExactly(ids.get(0), ids.get(1));
+        assertThat(rest).extracting(EquipmentDTO::getId).containsExactly(ids.get(2));
+    }
+
+    @Test
+    void mapsSpecificationsArray() {
+        List<EquipmentDTO> rows = equipmentRepository.findByCategory(category.toUpperCase(), 10, 0).collectList().block();
+
+        assertThat(rows).extracting(EquipmentDTO::getName)
+                .containsExactly("Oscilloscope", "Multimeter", "Signal generator");
+        assertThat(rows.get(0).getSpecifications()).containsExactlyInAnyOrder("100 MHz", "2 channels");
+        assertThat(rows.get(1).getSpecifications()).isEmpty();
+        assertThat(rows.get(2).getSpecifications()).containsExactly("20 MHz");
+        assertThat(rows.get(0).getMaintenanceInterval()).isEqualTo(90);
+    }
+
+    @Test
+    void streamsTheCatalogAsNdjson() {
+        List<EquipmentDTO> streamed = webTestClient.get().uri("/api/equipment")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer admin")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(EquipmentDTO.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertThat(streamed).extracting(EquipmentDTO::getId).isSorted();
+        assertThat(streamed).filteredOn(item -> category.equals(item.getCategory()))
+                .extracting(EquipmentDTO::getId).containsExactlyElementsOf(ids);
+    }
+
+    private long insert(String name, String... specifications) {
+        Long id = databaseClient.sql("INSERT INTO equipment (name, category, quantity, available, maintenance_interval) "
+                        + "VALUES (:name, :category, 1, 1, 90) RETURNING id")
+                .bind("name", name)
+                .bind("category", category)
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .block();
+        for (String specification : specifications) {
+            databaseClient.sql("INSERT INTO equipment_specifications (equipment_id, specifications) VALUES (:id, :specification)")
+                    .bind("id", id)
+                    .bind("specification", specification)
+                    .then()
+                    .block();
+        }
+        return id;
+    }
+}
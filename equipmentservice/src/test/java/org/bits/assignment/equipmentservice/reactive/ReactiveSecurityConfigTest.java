@@ -0,0 +1,130 @@
+package org.bits.assignment.equipmentservice.reactive;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.server.WebFilter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs requests through the reactive security chain against the user-service stub.
+ */
+@Import(ReactiveSecurityConfigTest.ArrivalCounterConfig.class)
+class ReactiveSecurityConfigTest extends ReactiveCatalogTestSupport {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ArrivalCounter arrivals;
+
+    @Test
+    void rejectedTokenGets401() {
+        get("/api/equipment/0", "Bearer forged").expectStatus().isUnauthorized();
+        get("/api/equipment/0", null).expectStatus().isUnauthorized();
+    }
+
+    @Test
+    void unavailableAuthServiceGets503() {
+        validateHandler = exchange -> respond(exchange, 503, "{\"error\":\"down\"}");
+
+        get("/api/equipment/0", "Bearer admin").expectStatus().isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @Test
+    void nonAdminGets403() {
+        get("/api/equipment/0", "Bearer student").expectStatus().isForbidden();
+    }
+
+    @Test
+    void concurrentRequestsWithOneTokenShareOneLookup() throws Exception {
+        int callers = 6;
+        CountDownLatch answer = new CountDownLatch(1);
+        validateHandler = exchange -> {
+            answer.await();
+            knownUsers(exchange);
+        };
+        arrivals.count.set(0);
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<?>> responses = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                responses.add(pool.submit(() -> get("/api/equipment/0", "Bearer admin").expectStatus().isNotFound()));
+            }
+            // Every request has reached the application and one lookup is on the wire
+            awaitUntil(() -> arrivals.count.get() == callers && validations.get() == 1);
+            Thread.sleep(100);
+            answer.countDown();
+
+            for (Future<?> response : responses) {
+                response.get(10, TimeUnit.SECONDS);
+            }
+            assertThat(validations).hasValue(1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private WebTestClient.ResponseSpec get(String path, String authorization) {
+        WebTestClient.RequestHeadersSpec<?> request = webTestClient.mutate()
+                .responseTimeout(Duration.ofSeconds(10))
+                .build()
+                .get().uri(path);
+        if (authorization != null) {
+            request = request.header(HttpHeaders.AUTHORIZATION, authorization);
+        }
+        return request.exchange();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * Counts requests as they enter the application, ahead of the security chain.
+     */
+    static class ArrivalCounter {
+        final AtomicInteger count = new AtomicInteger();
+    }
+
+    @TestConfiguration
+    static class ArrivalCounterConfig {
+
+        @Bean
+        ArrivalCounter arrivalCounter() {
+            return new ArrivalCounter();
+        }
+
+        @Bean
+        @Order(Ordered.HIGHEST_PRECEDENCE)
+        WebFilter arrivalCountingFilter(ArrivalCounter arrivalCounter) {
+            return (exchange, chain) -> {
+                arrivalCounter.count.incrementAndGet();
+                return chain.filter(exchange);
+            };
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.bits.assignment.equipmentservice.repository;
+
+import org.bits.assignment.equipmentservice.PostgresTestSupport;
+import org.bits.assignment.equipmentservice.entity.Equipment;
+import org.bits.assignment.equipmentservice.service.CatalogQueries;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs {@link EquipmentRepository#searchRanked} against the V2 search_vector column.
+ * Every row carries the term "zephyrscope" so the shared database's other rows never match.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class EquipmentSearchTest extends PostgresTestSupport {
+
+    @Autowired
+    private EquipmentRepository equipmentRepository;
+
+    @BeforeEach
+    void setUp() {
+        equipmentRepository.saveAllAndFlush(List.of(
+                equipment("Bench microscope", "Optics", "Zephyrscope compatible eyepiece"),
+                equipment("Zephyrscope field kit", "Optics", "Portable microscope case"),
+                equipment("Zephyrscope lab unit", "Laboratory", "Fixed bench model"),
+                equipment("Spectrometer", "laboratory", "Calibrated against the zephyrscope reference")));
+    }
+
+    @Test
+    void nameMatchesRankAboveDescriptionMatches() {
+        List<Equipment> results = equipmentRepository.searchRanked(tsQuery("zephyrscope"), null, 10, 0);
+
+        assertThat(results).extracting(Equipment::getName).containsExactly(
+                "Zephyrscope field kit", "Zephyrscope lab unit", "Bench microscope", "Spectrometer");
+    }
+
+    @Test
+    void categoryFilterIgnoresCase() {
+        List<Equipment> results = equipmentRepository.searchRanked(tsQuery("zephyrscope"), "LABORATORY", 10, 0);
+
+        assertThat(results).extracting(Equipment::getName)
+                .containsExactly("Zephyrscope lab unit", "Spectrometer");
+    }
+
+    @Test
+    void everyTermMatchesAsAPrefix() {
+        assertThat(equipmentRepository.searchRanked(tsQuery("zeph micro"), null, 10, 0))
+                .extracting(Equipment::getName)
+                .containsExactlyInAnyOrder("Zephyrscope field kit", "Bench microscope");
+        assertThat(equipmentRepository.searchRanked(tsQuery("zephyrscopes"), null, 10, 0)).isEmpty();
+    }
+
+    @Test
+    void pagesFollowTheRankingWithoutOverlap() {
+        List<Equipment> all = equipmentRepository.searchRanked(tsQuery("zephyrscope"), null, 10, 0);
+
+        List<Equipment> first = equipmentRepository.searchRanked(tsQuery("zephyrscope"), null, 3, 0);
+        List<Equipment> second = equipmentRepository.searchRanked(tsQuery("zephyrscope"), null, 3, 3);
+        List<Equipment> beyond = equipmentRepository.searchRanked(tsQuery("zephyrscope"), null, 3, 6);
+
+        assertThat(first).containsExactlyElementsOf(all.subList(0, 3));
+        assertThat(second).containsExactlyElementsOf(all.subList(3, 4));
+        assertThat(beyond).isEmpty();
+    }
+
+    private static String tsQuery(String query) {
+        return CatalogQueries.toPrefixTsQuery(query);
+    }
+
+    private static Equipment equipment(String name, String category, String description) {
+        return Equipment.builder()
+                .name(name)
+                .category(category)
+                .description(description)
+                .quantity(1)
+                .available(1)
+                .build();
+    }
+}
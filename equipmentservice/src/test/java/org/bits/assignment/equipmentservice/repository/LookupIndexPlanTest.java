@@ -0,0 +1,122 @@
+package org.bits.assignment.equipmentservice.repository;
+
+import org.bits.assignment.equipmentservice.PostgresTestSupport;
+import org.bits.assignment.equipmentservice.entity.Approval;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the hot repository lookups can be planned against their indexes.
+ *
+ * Each lookup is run through its repository method and the SQL Hibernate actually sent
+ * is captured, prepared and explained as a generic plan with sequential scans disabled. The
+ * tables are nearly empty here, so this checks that an index fits the query shape, not
+ * that the planner prefers it at production sizes.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "org.bits.assignment.equipmentservice.repository.LookupIndexPlanTest$LastStatement")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class LookupIndexPlanTest extends PostgresTestSupport {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\?");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RequestRepository requestRepository;
+
+    @Autowired
+    private ApprovalRepository approvalRepository;
+
+    @Autowired
+    private EquipmentRepository equipmentRepository;
+
+    @BeforeEach
+    void setUp() {
+        LastStatement.sql = null;
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        jdbcTemplate.execute("SET LOCAL plan_cache_mode = force_generic_plan");
+    }
+
+    @Test
+    void requestsOfAUser() {
+        requestRepository.findByUserIdOrderByCreatedAtDesc("u-1");
+
+        assertThat(planOfLastStatement()).contains("idx_requests_user_id_created_at");
+    }
+
+    @Test
+    void approvalQueue() {
+        approvalRepository.findByStatusOrderByCreatedAtDesc(Approval.Status.PENDING);
+
+        assertThat(planOfLastStatement()).contains("idx_approvals_status_created_at");
+    }
+
+    @Test
+    void categoryListing() {
+        equipmentRepository.findByCategoryIgnoreCaseOrderByIdAsc("Laboratory", PageRequest.of(0, 50));
+
+        assertThat(planOfLastStatement()).contains("idx_equipment_upper_category_id");
+    }
+
+    @Test
+    void rankedSearch() {
+        equipmentRepository.searchRanked("micro:*", "Laboratory", 50, 0);
+
+        assertThat(planOfLastStatement()).contains("idx_equipment_search_vector");
+    }
+
+    @Test
+    void overdueSweep() {
+        requestRepository.markOverdue(LocalDate.now(), 1000);
+
+        assertThat(planOfLastStatement()).contains("idx_requests_status_return_date");
+    }
+
+    private String planOfLastStatement() {
+        String sql = LastStatement.sql;
+        assertThat(sql).as("captured SQL").isNotNull();
+        AtomicInteger parameter = new AtomicInteger();
+        String generic = PLACEHOLDER.matcher(sql)
+                .replaceAll(match -> Matcher.quoteReplacement("$" + parameter.incrementAndGet()));
+        jdbcTemplate.execute("PREPARE lookup AS " + generic);
+        try {
+            String nulls = String.join(", ", Collections.nCopies(parameter.get(), "NULL"));
+            List<String> plan = jdbcTemplate.queryForList(
+                    parameter.get() == 0 ? "EXPLAIN EXECUTE lookup" : "EXPLAIN EXECUTE lookup(" + nulls + ")", String.class);
+            return String.join("\n", plan);
+        } finally {
+            jdbcTemplate.execute("DEALLOCATE lookup");
+        }
+    }
+
+    /**
+     * Remembers the last statement Hibernate prepared, parameters still as placeholders.
+     */
+    public static class LastStatement implements StatementInspector {
+
+        static volatile String sql;
+
+        @Override
+        public String inspect(String statement) {
+            sql = statement;
+            return statement;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.bits.assignment.equipmentservice.security;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * Verifies tokens against a JWK Set served by a mocked user-service.
+ */
+class TokenValidationCacheTest {
+
+    private static final String JWKS_URL = "http://auth/api/auth/jwks";
+
+    private KeyPair published;
+    private KeyPair rotatedIn;
+    private MockRestServiceServer server;
+    private TokenValidationCache tokenValidationCache;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        published = generator.generateKeyPair();
+        rotatedIn = generator.generateKeyPair();
+
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        JwksKeyResolver resolver = new JwksKeyResolver(restTemplate, JWKS_URL, 0);
+        tokenValidationCache = new TokenValidationCache(resolver, 100, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void acceptsTokenSignedWithPublishedKey() {
+        server.expect(requestTo(JWKS_URL)).andRespond(withSuccess(jwks(jwk("k1", published)), MediaType.APPLICATION_JSON));
+
+        JwtPrincipal principal = tokenValidationCache.resolve(token("k1", published));
+
+        assertThat(principal.username()).isEqualTo("admin@example.com");
+        assertThat(principal.role()).isEqualTo("ADMIN");
+        server.verify();
+    }
+
+    @Test
+    void refetchesKeysetForUnknownKid() {
+        server.expect(ExpectedCount.once(), requestTo(JWKS_URL))
+                .andRespond(withSuccess(jwks(jwk("k1", published)), MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.once(), requestTo(JWKS_URL))
+                .andRespond(withSuccess(jwks(jwk("k1", published) + "," + jwk("k2", rotatedIn)), MediaType.APPLICATION_JSON));
+
+        tokenValidationCache.resolve(token("k1", published));
+        JwtPrincipal principal = tokenValidationCache.resolve(token("k2", rotatedIn));
+
+        assertThat(principal.username()).isEqualTo("admin@example.com");
+        server.verify();
+    }
+
+    @Test
+    void rejectsTokenWhoseSignatureDoesNotMatchKid() {
+        server.expect(ExpectedCount.manyTimes(), requestTo(JWKS_URL))
+                .andRespond(withSuccess(jwks(jwk("k1", published)), MediaType.APPLICATION_JSON));
+
+        assertThatThrownBy(() -> tokenValidationCache.resolve(token("k1", rotatedIn)))
+                .isInstanceOf(JwtException.class);
+    }
+
+    private static String token(String kid, KeyPair keyPair) {
+        return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, kid)
+                .setSubject("admin@example.com")
+                .claim("role", "ADMIN")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(keyPair.getPrivate(), SignatureAlgorithm.RS256)
+                .compact();
+    }
+
+    private static String jwks(String keys) {
+        return "{\"keys\":[" + keys + "]}";
+    }
+
+    private static String jwk(String kid, KeyPair keyPair) {
+        RSAPublicKey key = (RSAPublicKey) keyPair.getPublic();
+        return "{\"kty\":\"RSA\",\"kid\":\"" + kid + "\",\"alg\":\"RS256\",\"use\":\"sig\","
+                + "\"n\":\"" + base64Url(key.getModulus()) + "\",\"e\":\"" + base64Url(key.getPublicExponent()) + "\"}";
+    }
+
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
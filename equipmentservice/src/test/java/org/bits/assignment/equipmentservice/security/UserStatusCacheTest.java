@@ -0,0 +1,63 @@
+package org.bits.assignment.equipmentservice.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bits.assignment.equipmentservice.client.AuthClientRest;
+import org.bits.assignment.equipmentservice.client.dto.UserValidationResponse;
+import org.bits.assignment.equipmentservice.exception.AuthServiceUnavailableException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserStatusCacheTest {
+
+    private static final JwtPrincipal ALICE = new JwtPrincipal("alice@example.com", "STUDENT", Instant.now().plusSeconds(3600));
+
+    private final AuthClientRest authClient = mock(AuthClientRest.class);
+    private final UserStatusCache userStatusCache = new UserStatusCache(authClient, 100, 30, new SimpleMeterRegistry());
+
+    @Test
+    void activeUserIsAskedForOnce() {
+        when(authClient.validateToken("t1")).thenReturn(user("active"));
+
+        assertThat(userStatusCache.isActive(ALICE, "t1")).isTrue();
+        assertThat(userStatusCache.isActive(ALICE, "t1")).isTrue();
+
+        verify(authClient, times(1)).validateToken("t1");
+    }
+
+    @Test
+    void suspendedUserIsRefused() {
+        when(authClient.validateToken("t1"))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.UNAUTHORIZED, "User is not active", null, null, null));
+
+        assertThat(userStatusCache.isActive(ALICE, "t1")).isFalse();
+        assertThat(userStatusCache.isActive(ALICE, "t2")).isFalse();
+
+        verify(authClient, times(1)).validateToken("t1");
+    }
+
+    @Test
+    void unavailableUserServiceLeavesTheSignatureCheckInChargeAndIsAskedAgain() {
+        when(authClient.validateToken("t1"))
+                .thenThrow(new AuthServiceUnavailableException("Auth service unreachable", null))
+                .thenReturn(user("suspended"));
+
+        assertThat(userStatusCache.isActive(ALICE, "t1")).isTrue();
+        assertThat(userStatusCache.isActive(ALICE, "t1")).isFalse();
+    }
+
+    private static UserValidationResponse user(String status) {
+        UserValidationResponse user = new UserValidationResponse();
+        user.setEmail(ALICE.username());
+        user.setStatus(status);
+        return user;
+    }
+}
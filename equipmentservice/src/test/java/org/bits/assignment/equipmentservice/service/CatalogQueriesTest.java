@@ -0,0 +1,24 @@
+package org.bits.assignment.equipmentservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CatalogQueriesTest {
+
+    @Test
+    void prefixTsQueryKeepsOnlyLettersAndDigits() {
+        assertThat(CatalogQueries.toPrefixTsQuery("Digital  CAM")).isEqualTo("digital:* & cam:*");
+        assertThat(CatalogQueries.toPrefixTsQuery("x'); DROP TABLE equipment;--")).isEqualTo("x:* & drop:* & table:* & equipment:*");
+        assertThat(CatalogQueries.toPrefixTsQuery("!&|:*")).isNull();
+        assertThat(CatalogQueries.toPrefixTsQuery(null)).isNull();
+    }
+
+    @Test
+    void cursorRoundTripsAndRejectsGarbage() {
+        assertThat(CatalogQueries.decodeCursor(CatalogQueries.encodeCursor(42L))).isEqualTo(42L);
+        assertThat(CatalogQueries.decodeCursor(null)).isZero();
+        assertThatThrownBy(() -> CatalogQueries.decodeCursor("bad")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,96 @@
+package org.bits.assignment.equipmentservice.service.impl;
+
+import org.bits.assignment.equipmentservice.dto.CategoryStatsDTO;
+import org.bits.assignment.equipmentservice.entity.Request;
+import org.bits.assignment.equipmentservice.event.EquipmentChangedEvent;
+import org.bits.assignment.equipmentservice.event.RequestStatusChangedEvent;
+import org.bits.assignment.equipmentservice.event.RequestsMarkedOverdueEvent;
+import org.bits.assignment.equipmentservice.event.StockChangedEvent;
+import org.bits.assignment.equipmentservice.repository.EquipmentRepository;
+import org.bits.assignment.equipmentservice.repository.RequestRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AnalyticsServiceImplTest {
+
+    private final EquipmentRepository equipmentRepository = mock(EquipmentRepository.class);
+    private final RequestRepository requestRepository = mock(RequestRepository.class);
+    private final AnalyticsServiceImpl analytics = new AnalyticsServiceImpl(equipmentRepository, requestRepository);
+
+    @BeforeEach
+    void emptyDatabase() {
+        when(equipmentRepository.aggregateByCategory()).thenReturn(List.of());
+        when(requestRepository.countGroupedByStatus()).thenReturn(List.of());
+        when(requestRepository.countCreatedPerDaySince(any())).thenReturn(List.of());
+    }
+
+    @Test
+    void eventsMoveTheCounters() {
+        analytics.on(new EquipmentChangedEvent(1L, null, new EquipmentChangedEvent.StockSnapshot("AV", 4, 4)));
+        analytics.on(new StockChangedEvent(1L, "AV", -1));
+        analytics.on(created(10L));
+        analytics.on(changed(10L, Request.Status.PENDING, Request.Status.APPROVED));
+        analytics.on(created(11L));
+        analytics.on(changed(11L, Request.Status.PENDING, Request.Status.REJECTED));
+        analytics.on(new RequestsMarkedOverdueEvent(1));
+
+        assertThat(analytics.getStats().getTotalEquipment()).isEqualTo(1);
+        assertThat(analytics.getStats().getActiveRequests()).isEqualTo(1);
+        assertThat(analytics.getStats().getApprovalRate()).isEqualTo(50.0);
+        assertThat(analytics.getStats().getBorrowsThisMonth()).isEqualTo(1);
+        assertThat(analytics.getCategoryStats()).containsExactly(
+                CategoryStatsDTO.builder().category("AV").count(4).available(3).borrowed(1).build());
+        assertThat(analytics.getDailyActivity()).singleElement().satisfies(day -> {
+            assertThat(day.getRequestsCreated()).isEqualTo(2);
+            assertThat(day.getRequestsApproved()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void reconcileReplacesDriftedCounters() {
+        analytics.on(created(10L));
+        analytics.on(new EquipmentChangedEvent(1L, null, new EquipmentChangedEvent.StockSnapshot("AV", 1, 1)));
+
+        analytics.reconcile();
+
+        assertThat(analytics.getStats().getActiveRequests()).isZero();
+        assertThat(analytics.getStats().getTotalEquipment()).isZero();
+        assertThat(analytics.getDailyActivity()).isEmpty();
+    }
+
+    @Test
+    void eventsArrivingDuringReconcileSurviveTheSwap() {
+        // The request is created after the aggregate queries ran, so they do not include it
+        when(requestRepository.countDistinctUserIds()).thenAnswer(invocation -> {
+            analytics.on(created(10L));
+            return 1L;
+        });
+
+        analytics.reconcile();
+
+        assertThat(analytics.getStats().getActiveRequests()).isEqualTo(1);
+        assertThat(analytics.getDailyActivity()).singleElement()
+                .satisfies(day -> assertThat(day.getRequestsCreated()).isEqualTo(1));
+
+        // Once the swap is done nothing is journaled any more, so the next run starts clean
+        when(requestRepository.countDistinctUserIds()).thenReturn(1L);
+        analytics.reconcile();
+        assertThat(analytics.getStats().getActiveRequests()).isZero();
+    }
+
+    private static RequestStatusChangedEvent created(Long id) {
+        return changed(id, null, Request.Status.PENDING);
+    }
+
+    private static RequestStatusChangedEvent changed(Long id, Request.Status previous, Request.Status current) {
+        return new RequestStatusChangedEvent(id, "1", "1", "Projector", LocalDate.now(), previous, current);
+    }
+}
@@ -0,0 +1,195 @@
+package org.bits.assignment.equipmentservice.service.impl;
+
+import org.bits.assignment.equipmentservice.dto.ApprovalBatchItemDTO;
+import org.bits.assignment.equipmentservice.dto.ApprovalBatchResultDTO;
+import org.bits.assignment.equipmentservice.entity.Approval;
+import org.bits.assignment.equipmentservice.entity.Equipment;
+import org.bits.assignment.equipmentservice.event.ApprovalChangedEvent;
+import org.bits.assignment.equipmentservice.repository.ApprovalRepository;
+import org.bits.assignment.equipmentservice.repository.EquipmentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs without a test transaction so that each batch chunk commits or rolls back
+ * on its own and row locks are real.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({ApprovalServiceImpl.class, ApprovalServiceImplTest.FailingListener.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ApprovalServiceImplTest {
+
+    @Autowired
+    private ApprovalServiceImpl approvalService;
+
+    @Autowired
+    private ApprovalRepository approvalRepository;
+
+    @Autowired
+    private EquipmentRepository equipmentRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private FailingListener failingListener;
+
+    @AfterEach
+    void cleanUp() {
+        failingListener.failOn.set(-1);
+        approvalRepository.deleteAll();
+        equipmentRepository.deleteAll();
+    }
+
+    @Test
+    void decisionsLeaveStockToTheRequestLifecycle() {
+        Long equipmentId = equipmentRepository.save(Equipment.builder()
+                .name("Projector")
+                .category("AV")
+                .quantity(3)
+                .available(3)
+                .build()).getId();
+        Approval approval = persistApproval(equipmentId.toString());
+
+        approvalService.approveRequest(approval.getId(), "ok");
+        approvalService.applyBatch(List.of(item(approval.getId(), "REJECTED"), item(approval.getId(), "APPROVED")));
+        approvalService.rejectRequest(approval.getId(), "changed plans", null);
+
+        assertThat(equipmentRepository.findById(equipmentId).orElseThrow().getAvailable()).isEqualTo(3);
+        assertThat(statusOf(approval.getId())).isEqualTo(Approval.Status.REJECTED);
+    }
+
+    @Test
+    void batchReportsEachItemInInputOrder() {
+        Long first = persistApproval("1").getId();
+        Long second = persistApproval("1").getId();
+        Long third = persistApproval("1").getId();
+
+        List<ApprovalBatchResultDTO> results = approvalService.applyBatch(List.of(
+                item(first, "approved"),
+                item(-1L, "APPROVED"),
+                item(second, "PENDING"),
+                item(first, "REJECTED"),
+                item(third, "REJECTED")));
+
+        assertThat(results).extracting(ApprovalBatchResultDTO::getId).containsExactly(first, -1L, second, first, third);
+        assertThat(results).extracting(ApprovalBatchResultDTO::isSuccess).containsExactly(true, false, false, false, true);
+        assertThat(results.get(3).getError()).isEqualTo("Duplicate id in batch");
+        assertThat(statusOf(first)).isEqualTo(Approval.Status.APPROVED);
+        assertThat(statusOf(second)).isEqualTo(Approval.Status.PENDING);
+        assertThat(statusOf(third)).isEqualTo(Approval.Status.REJECTED);
+        assertThat(approvalRepository.findById(third).orElseThrow().getReason()).isEqualTo("reason");
+    }
+
+    @Test
+    void failedChunkRollsBackAloneAndLaterChunksStillApply() {
+        List<ApprovalBatchItemDTO> items = new ArrayList<>();
+        for (int i = 0; i < ApprovalServiceImpl.BATCH_CHUNK_SIZE + 2; i++) {
+            items.add(item(persistApproval("1").getId(), "APPROVED"));
+        }
+        Long inFirstChunk = items.get(0).getId();
+        Long failing = items.get(1).getId();
+        Long inSecondChunk = items.get(ApprovalServiceImpl.BATCH_CHUNK_SIZE).getId();
+        failingListener.failOn.set(failing);
+
+        List<ApprovalBatchResultDTO> results = approvalService.applyBatch(items);
+
+        assertThat(results).hasSize(items.size());
+        assertThat(results.subList(0, ApprovalServiceImpl.BATCH_CHUNK_SIZE)).noneMatch(ApprovalBatchResultDTO::isSuccess);
+        assertThat(results.subList(ApprovalServiceImpl.BATCH_CHUNK_SIZE, items.size())).allMatch(ApprovalBatchResultDTO::isSuccess);
+        assertThat(statusOf(inFirstChunk)).isEqualTo(Approval.Status.PENDING);
+        assertThat(statusOf(inSecondChunk)).isEqualTo(Approval.Status.APPROVED);
+    }
+
+    @Test
+    void batchWaitsForRowLocksHeldByOtherTransactions() throws Exception {
+        Long id = persistApproval("1").getId();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            approvalRepository.findAllByIdIn(List.of(id));
+            locked.countDown();
+            await(release);
+        }));
+        assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<List<ApprovalBatchResultDTO>> batch =
+                CompletableFuture.supplyAsync(() -> approvalService.applyBatch(List.of(item(id, "APPROVED"))));
+        Thread.sleep(300);
+        assertThat(batch).isNotDone();
+
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        assertThat(batch.get(5, TimeUnit.SECONDS)).singleElement().satisfies(result -> assertThat(result.isSuccess()).isTrue());
+        assertThat(statusOf(id)).isEqualTo(Approval.Status.APPROVED);
+    }
+
+    private Approval persistApproval(String equipmentId) {
+        return approvalRepository.save(Approval.builder()
+                .userId("1")
+                .userName("alice")
+                .equipmentId(equipmentId)
+                .equipmentName("Projector")
+                .requestDate(LocalDate.now())
+                .status(Approval.Status.PENDING)
+                .createdAt(LocalDate.now())
+                .build());
+    }
+
+    private Approval.Status statusOf(Long id) {
+        return approvalRepository.findById(id).orElseThrow().getStatus();
+    }
+
+    private static ApprovalBatchItemDTO item(Long id, String decision) {
+        ApprovalBatchItemDTO item = new ApprovalBatchItemDTO();
+        item.setId(id);
+        item.setDecision(decision);
+        item.setReason("reason");
+        return item;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Fails the chunk containing a chosen approval, standing in for any error raised mid-chunk.
+     */
+    static class FailingListener {
+
+        final AtomicLong failOn = new AtomicLong(-1);
+
+        @EventListener
+        public void on(ApprovalChangedEvent event) {
+            if (event.approvalId() == failOn.get()) {
+                throw new IllegalStateException("Simulated failure for approval " + event.approvalId());
+            }
+        }
+    }
+}
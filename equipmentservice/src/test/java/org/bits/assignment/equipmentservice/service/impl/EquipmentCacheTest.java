@@ -0,0 +1,80 @@
+package org.bits.assignment.equipmentservice.service.impl;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.bits.assignment.equipmentservice.config.CacheConfig;
+import org.bits.assignment.equipmentservice.dto.EquipmentCreateDTO;
+import org.bits.assignment.equipmentservice.entity.Equipment;
+import org.bits.assignment.equipmentservice.repository.EquipmentRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that repeated catalog reads are served from cache and that a committed
+ * update evicts the stale entry.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({EquipmentServiceImpl.class, CacheConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EquipmentCacheTest {
+
+    @Autowired
+    private EquipmentServiceImpl equipmentService;
+
+    @Autowired
+    private EquipmentRepository equipmentRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void cleanUp() {
+        equipmentRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void repeatedReadsHitCacheUntilUpdateCommits() {
+        Long id = equipmentRepository.save(Equipment.builder()
+                .name("Spectrometer")
+                .category("Laboratory")
+                .quantity(1)
+                .available(1)
+                .build()).getId();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        equipmentService.getEquipmentById(id);
+        equipmentService.searchEquipment(null, "Laboratory", 0, 10);
+        statistics.clear();
+
+        assertThat(equipmentService.getEquipmentById(id).getName()).isEqualTo("Spectrometer");
+        assertThat(equipmentService.searchEquipment(null, "Laboratory", 0, 10)).hasSize(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        equipmentService.updateEquipment(id, EquipmentCreateDTO.builder()
+                .name("UV Spectrometer")
+                .category("Laboratory")
+                .quantity(1)
+                .build());
+
+        assertThat(equipmentService.getEquipmentById(id).getName()).isEqualTo("UV Spectrometer");
+        assertThat(equipmentService.searchEquipment(null, "Laboratory", 0, 10))
+                .singleElement().extracting("name").isEqualTo("UV Spectrometer");
+    }
+}
@@ -0,0 +1,88 @@
+package org.bits.assignment.equipmentservice.service.impl;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.bits.assignment.equipmentservice.dto.EquipmentImportResultDTO;
+import org.bits.assignment.equipmentservice.repository.EquipmentRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import(EquipmentImportServiceImpl.class)
+class EquipmentImportServiceImplTest {
+
+    @Autowired
+    private EquipmentImportServiceImpl importService;
+
+    @Autowired
+    private EquipmentRepository equipmentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void csvImportBatchesInsertsAndReportsBadRows() {
+        int rows = 1000;
+        StringBuilder csv = new StringBuilder("name,category,quantity,specifications\n");
+        for (int i = 0; i < rows; i++) {
+            csv.append("\"Oscilloscope, model ").append(i).append("\",Electronics,3,100 MHz;2 channels\n");
+        }
+        csv.append("Broken row,Electronics,three,\n");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        EquipmentImportResultDTO result = importService.importCsv(
+                new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.getImported()).isEqualTo(rows);
+        assertThat(result.getRejected()).isEqualTo(1);
+        assertThat(result.getErrors()).singleElement().asString().contains("Row " + (rows + 1));
+        assertThat(equipmentRepository.count()).isEqualTo(rows);
+        // Unbatched IDENTITY inserts would need 3000 statements (one equipment row and two specifications each)
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(150);
+    }
+
+    @Test
+    void jsonImportRejectsUnmappableRowsAndKeepsGoing() {
+        String json = """
+                [
+                  {"name": "Microscope", "category": "Laboratory", "quantity": 2},
+                  {"name": "Centrifuge", "category": "Laboratory", "quantity": "two"},
+                  "Pipette",
+                  {"name": "Burette", "category": "Laboratory", "quantity": 1, "specifications": ["50 ml"]},
+                  {"name": "Scale", "category": "Laboratory", "quantity": {"value": 1}}
+                ]
+                """;
+
+        EquipmentImportResultDTO result = importService.importJson(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getRejected()).isEqualTo(3);
+        assertThat(result.getErrors()).hasSize(3)
+                .anySatisfy(error -> assertThat(error).startsWith("Row 2: "))
+                .anySatisfy(error -> assertThat(error).isEqualTo("Row 3: expected an object but found string"))
+                .anySatisfy(error -> assertThat(error).startsWith("Row 5: "));
+        assertThat(equipmentRepository.count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,101 @@
+package org.bits.assignment.equipmentservice.service.impl;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.bits.assignment.equipmentservice.dto.EquipmentDTO;
+import org.bits.assignment.equipmentservice.entity.Equipment;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({EquipmentServiceImpl.class, NoOpCacheManager.class})
+class EquipmentServiceImplTest {
+
+    @Autowired
+    private EquipmentServiceImpl equipmentService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 1000})
+    void listingIssuesConstantStatementCount(int rows) {
+        for (int i = 0; i < rows; i++) {
+            entityManager.persist(Equipment.builder()
+                    .name("Microscope " + i)
+                    .category("Laboratory")
+                    .quantity(2)
+                    .available(2)
+                    .specifications(List.of("1000x magnification", "LED illumination"))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<EquipmentDTO> equipment = equipmentService.getAllEquipment();
+
+        assertThat(equipment).hasSize(rows);
+        assertThat(equipment).allSatisfy(dto -> assertThat(dto.getSpecifications()).hasSize(2));
+        // One query for the equipment rows, one for their specifications
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void categorySearchIgnoresCaseAndPages() {
+        persist("Microscope", "Laboratory");
+        persist("Centrifuge", "Laboratory");
+        persist("Pipette", "laboratory");
+        persist("Football", "Sports");
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(equipmentService.searchEquipment(null, "LABORATORY", 0, 2))
+                .extracting(EquipmentDTO::getName).containsExactly("Microscope", "Centrifuge");
+        assertThat(equipmentService.searchEquipment("  ", "laboratory", 1, 2))
+                .extracting(EquipmentDTO::getName).containsExactly("Pipette");
+    }
+
+    @Test
+    void emptySearchReturnsOnePageOfAllEquipment() {
+        persist("Microscope", "Laboratory");
+        persist("Football", "Sports");
+        persist("Projector", "AV");
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(equipmentService.searchEquipment(null, null, 0, 2))
+                .extracting(EquipmentDTO::getName).containsExactly("Microscope", "Football");
+        assertThat(equipmentService.searchEquipment(null, "", 1, 2))
+                .extracting(EquipmentDTO::getName).containsExactly("Projector");
+    }
+
+    private void persist(String name, String category) {
+        entityManager.persist(Equipment.builder()
+                .name(name)
+                .category(category)
+                .quantity(1)
+                .available(1)
+                .build());
+    }
+}
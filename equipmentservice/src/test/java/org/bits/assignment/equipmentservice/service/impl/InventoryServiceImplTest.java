@@ -0,0 +1,102 @@
+package org.bits.assignment.equipmentservice.service.impl;
+
+import org.bits.assignment.equipmentservice.entity.Equipment;
+import org.bits.assignment.equipmentservice.repository.EquipmentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hammers a single equipment row from many threads, each reservation committing
+ * in its own transaction, and checks that stock is never oversold.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(InventoryServiceImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class InventoryServiceImplTest {
+
+    private static final int THREADS = 64;
+    private static final int ATTEMPTS_PER_THREAD = 20;
+    private static final int STOCK = 100;
+
+    @Autowired
+    private InventoryServiceImpl inventoryService;
+
+    @Autowired
+    private EquipmentRepository equipmentRepository;
+
+    @AfterEach
+    void cleanUp() {
+        equipmentRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentReservationsNeverOversell() throws Exception {
+        Long id = equipmentRepository.save(Equipment.builder()
+                .name("Projector")
+                .category("Projectors")
+                .quantity(STOCK)
+                .available(STOCK)
+                .build()).getId();
+
+        AtomicInteger reserved = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                    if (inventoryService.tryReserve(id)) {
+                        reserved.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        Equipment after = equipmentRepository.findById(id).orElseThrow();
+        assertThat(reserved.get()).isEqualTo(STOCK);
+        assertThat(after.getAvailable()).isZero();
+        assertThat(after.getQuantity()).isEqualTo(STOCK);
+    }
+
+    @Test
+    void releaseNeverExceedsQuantity() {
+        Long id = equipmentRepository.save(Equipment.builder()
+                .name("Tripod")
+                .category("Cameras")
+                .quantity(2)
+                .available(1)
+                .build()).getId();
+
+        inventoryService.release(id);
+        inventoryService.release(id);
+
+        assertThat(equipmentRepository.findById(id).orElseThrow().getAvailable()).isEqualTo(2);
+    }
+}
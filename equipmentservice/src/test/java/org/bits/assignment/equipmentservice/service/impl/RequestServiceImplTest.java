@@ -0,0 +1,192 @@
+package org.bits.assignment.equipmentservice.service.impl;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.bits.assignment.equipmentservice.dto.RequestCreateDTO;
+import org.bits.assignment.equipmentservice.dto.RequestDTO;
+import org.bits.assignment.equipmentservice.dto.RequestStatusUpdateDTO;
+import org.bits.assignment.equipmentservice.dto.UserRequestCountsDTO;
+import org.bits.assignment.equipmentservice.entity.Equipment;
+import org.bits.assignment.equipmentservice.entity.Request;
+import org.bits.assignment.equipmentservice.exception.InvalidStatusTransitionException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "requests.overdue.batch-size=2"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({RequestServiceImpl.class, InventoryServiceImpl.class})
+class RequestServiceImplTest {
+
+    @Autowired
+    private RequestServiceImpl requestService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void countsManyUsersWithOneQuery() {
+        persist("1", Request.Status.PENDING);
+        persist("1", Request.Status.APPROVED);
+        persist("1", Request.Status.RETURNED);
+        persist("1", Request.Status.REJECTED);
+        persist("2", Request.Status.OVERDUE);
+        persist("3", Request.Status.RETURNED);
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<UserRequestCountsDTO> counts = requestService.getCountsByUserIds(List.of("1", "2", "3", "4", "1"));
+
+        assertThat(counts).containsExactly(
+                new UserRequestCountsDTO("1", 2, 2),
+                new UserRequestCountsDTO("2", 1, 1),
+                new UserRequestCountsDTO("3", 0, 1),
+                new UserRequestCountsDTO("4", 0, 0));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void createdRequestCarriesEquipmentName() {
+        Long equipmentId = entityManager.persistAndGetId(Equipment.builder()
+                .name("Projector")
+                .category("AV")
+                .quantity(1)
+                .available(1)
+                .build(), Long.class);
+
+        RequestDTO created = requestService.createRequest(RequestCreateDTO.builder()
+                .userId("1")
+                .equipmentId(equipmentId.toString())
+                .requestDate(LocalDate.now())
+                .build());
+        // equipment_name is NOT NULL, so the insert itself fails if the name is missing
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(created.getEquipmentName()).isEqualTo("Projector");
+        assertThat(entityManager.find(Request.class, created.getId()).getEquipmentName()).isEqualTo("Projector");
+    }
+
+    @Test
+    void marksPastDueApprovedRequestsOverdueInBatches() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        List<Request> pastDue = List.of(
+                persist("1", Request.Status.APPROVED, yesterday),
+                persist("2", Request.Status.APPROVED, yesterday.minusDays(3)),
+                persist("3", Request.Status.APPROVED, yesterday.minusDays(10)),
+                persist("4", Request.Status.APPROVED, yesterday));
+        Request dueToday = persist("5", Request.Status.APPROVED, LocalDate.now());
+        Request pending = persist("6", Request.Status.PENDING, yesterday);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Four rows with a batch size of two: two full batches, then an empty one ends the run
+        assertThat(requestService.markOverdueRequests()).isEqualTo(4);
+        entityManager.clear();
+
+        assertThat(pastDue).allSatisfy(request -> assertThat(statusOf(request)).isEqualTo(Request.Status.OVERDUE));
+        assertThat(statusOf(dueToday)).isEqualTo(Request.Status.APPROVED);
+        assertThat(statusOf(pending)).isEqualTo(Request.Status.PENDING);
+        assertThat(requestService.markOverdueRequests()).isZero();
+    }
+
+    @Test
+    void rejectsTransitionsOutOfFinalStatuses() {
+        Request returned = persist("1", Request.Status.RETURNED, LocalDate.now());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThatThrownBy(() -> requestService.updateStatus(returned.getId(), new RequestStatusUpdateDTO("approved")))
+                .isInstanceOf(InvalidStatusTransitionException.class);
+        assertThat(requestService.updateStatus(returned.getId(), new RequestStatusUpdateDTO("RETURNED")).getStatus())
+                .isEqualTo("RETURNED");
+    }
+
+    @Test
+    void approvalReservesOneUnitAndReturnReleasesIt() {
+        Long equipmentId = persistEquipment(2);
+        Request request = persist("1", Request.Status.PENDING, null, equipmentId.toString());
+        entityManager.flush();
+        entityManager.clear();
+
+        requestService.updateStatus(request.getId(), new RequestStatusUpdateDTO("APPROVED"));
+        assertThat(availableOf(equipmentId)).isEqualTo(1);
+
+        requestService.updateStatus(request.getId(), new RequestStatusUpdateDTO("RETURNED"));
+        assertThat(availableOf(equipmentId)).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsNonNumericEquipmentIds() {
+        Request request = persist("1", Request.Status.PENDING, null, "projector-1");
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThatThrownBy(() -> requestService.createRequest(RequestCreateDTO.builder().userId("1").equipmentId("abc").build()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("abc");
+        assertThatThrownBy(() -> requestService.updateStatus(request.getId(), new RequestStatusUpdateDTO("APPROVED")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(statusOf(request)).isEqualTo(Request.Status.PENDING);
+    }
+
+    private Request.Status statusOf(Request request) {
+        return entityManager.find(Request.class, request.getId()).getStatus();
+    }
+
+    private void persist(String userId, Request.Status status) {
+        persist(userId, status, null);
+    }
+
+    private Request persist(String userId, Request.Status status, LocalDate returnDate) {
+        return persist(userId, status, returnDate, "1");
+    }
+
+    private Request persist(String userId, Request.Status status, LocalDate returnDate, String equipmentId) {
+        return entityManager.persist(Request.builder()
+                .userId(userId)
+                .equipmentId(equipmentId)
+                .equipmentName("Projector")
+                .status(status)
+                .requestDate(LocalDate.now())
+                .returnDate(returnDate)
+                .createdAt(LocalDate.now())
+                .build());
+    }
+
+    private Long persistEquipment(int units) {
+        return entityManager.persistAndGetId(Equipment.builder()
+                .name("Projector")
+                .category("AV")
+                .quantity(units)
+                .available(units)
+                .build(), Long.class);
+    }
+
+    private int availableOf(Long equipmentId) {
+        entityManager.flush();
+        entityManager.clear();
+        return entityManager.find(Equipment.class, equipmentId).getAvailable();
+    }
+}
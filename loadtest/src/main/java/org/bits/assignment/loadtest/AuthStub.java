@@ -0,0 +1,73 @@
+package org.bits.assignment.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Stand-in for user-service's GET /api/auth/validate.
+ *
+ * Answers from the token's own claims without verifying the signature, so callers of
+ * the validate endpoint are measured without user-service's latency in the loop.
+ */
+final class AuthStub implements AutoCloseable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpServer server;
+
+    private AuthStub(HttpServer server) {
+        this.server = server;
+    }
+
+    static AuthStub start() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/auth/validate", AuthStub::validate);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+        return new AuthStub(server);
+    }
+
+    String validateUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/api/auth/validate";
+    }
+
+    private static void validate(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String header = exchange.getRequestHeaders().getFirst("Authorization");
+            String token = header == null ? "" : header.replaceFirst("^Bearer ", "");
+            String[] parts = token.split("\\.");
+            if (parts.length != 3) {
+                exchange.sendResponseHeaders(401, -1);
+                return;
+            }
+            JsonNode claims = MAPPER.readTree(Base64.getUrlDecoder().decode(parts[1]));
+            Map<String, Object> user = new LinkedHashMap<>();
+            user.put("id", Math.abs((long) claims.path("sub").asText().hashCode()));
+            user.put("email", claims.path("sub").asText());
+            user.put("role", claims.path("role").asText());
+            user.put("status", "active");
+            byte[] body = MAPPER.writeValueAsString(user).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
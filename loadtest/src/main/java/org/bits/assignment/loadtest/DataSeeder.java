@@ -0,0 +1,249 @@
+package org.bits.assignment.loadtest;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+/**
+ * Fills both databases with generated rows through COPY.
+ *
+ * Every table draws from its own random stream derived from the run's seed, so the same
+ * seed and scale always produce the same rows. Dates are relative to a fixed day rather
+ * than today so reruns months apart still see the same data.
+ */
+final class DataSeeder {
+
+    static final String ADMIN_EMAIL = "admin@loadtest.local";
+    static final String STUDENT_EMAIL = "student@loadtest.local";
+    static final String PASSWORD = "loadtest-password";
+
+    private static final LocalDate EPOCH = LocalDate.of(2026, 1, 1);
+    private static final int COPY_CHUNK_CHARS = 1 << 20;
+
+    private static final String[] FIRST_NAMES = {"Aarav", "Diya", "Ishaan", "Meera", "Rohan", "Ananya", "Kabir",
+            "Saanvi", "Vivaan", "Priya", "Arjun", "Kavya", "Aditya", "Nisha", "Rahul", "Sneha"};
+    private static final String[] LAST_NAMES = {"Sharma", "Iyer", "Patel", "Reddy", "Nair", "Gupta", "Menon",
+            "Rao", "Das", "Joshi", "Kulkarni", "Singh", "Bose", "Pillai"};
+    private static final String[] CATEGORIES = {"Laboratory", "Sports", "Audio Visual", "Computing", "Music",
+            "Photography", "Electronics", "Robotics", "Drafting", "Medical", "Workshop", "Outdoor"};
+    private static final String[] ADJECTIVES = {"Portable", "Digital", "Compact", "Professional", "Wireless",
+            "Heavy Duty", "Precision", "Advanced", "Standard", "Mini"};
+    private static final String[] NOUNS = {"Microscope", "Projector", "Camera", "Oscilloscope", "Tripod",
+            "Keyboard", "Drone", "Multimeter", "Speaker", "Laptop", "Racket", "Telescope", "Soldering Station",
+            "3D Printer", "Microphone", "Tablet"};
+    private static final String[] CONDITIONS = {"Excellent", "Good", "Fair"};
+    private static final String[] SPECIFICATIONS = {"Rechargeable battery", "USB-C charging", "Carry case included",
+            "1080p output", "Bluetooth 5.0", "Adjustable height", "LED display", "Waterproof", "Auto calibration"};
+
+    private final LoadTestConfig config;
+    private final EmbeddedDatabase database;
+
+    private String[] userNames;
+    private String[] equipmentNames;
+
+    DataSeeder(LoadTestConfig config, EmbeddedDatabase database) {
+        this.config = config;
+        this.database = database;
+    }
+
+    /**
+     * Seeds both databases; their schemas must already have been migrated by the services.
+     *
+     * @return the number of PENDING approvals, which are ids 1..n
+     */
+    int seed() throws SQLException, IOException {
+        try (Connection connection = database.connect(EmbeddedDatabase.USER_DB)) {
+            seedUsers(connection);
+            finish(connection, "users", "users_id_seq");
+            analyze(connection);
+        }
+        try (Connection connection = database.connect(EmbeddedDatabase.EQUIPMENT_DB)) {
+            seedEquipment(connection);
+            seedRequests(connection);
+            int pending = seedApprovals(connection);
+            finish(connection, "equipment", "equipment_id_seq");
+            finish(connection, "requests", "requests_id_seq");
+            finish(connection, "approvals", "approvals_id_seq");
+            analyze(connection);
+            return pending;
+        }
+    }
+
+    private void seedUsers(Connection connection) throws SQLException, IOException {
+        SplittableRandom random = new SplittableRandom(config.seed());
+        // One hash for every account: BCrypt at full strength for 200k rows would take minutes
+        String hash = new BCryptPasswordEncoder(10).encode(PASSWORD);
+        int rows = config.userRows();
+        userNames = new String[rows + 1];
+        try (Copy copy = new Copy(connection, "users (id, name, email, password, role, status)")) {
+            for (int id = 1; id <= rows; id++) {
+                String first = pick(random, FIRST_NAMES);
+                String last = pick(random, LAST_NAMES);
+                String email;
+                String role;
+                if (id == 1) {
+                    email = ADMIN_EMAIL;
+                    role = "ADMIN";
+                } else if (id == 2) {
+                    email = STUDENT_EMAIL;
+                    role = "STUDENT";
+                } else {
+                    email = first.toLowerCase() + "." + last.toLowerCase() + "." + id + "@university.edu";
+                    role = random.nextInt(10) == 0 ? "STAFF" : "STUDENT";
+                }
+                userNames[id] = first + " " + last;
+                copy.row(id, userNames[id], email, hash, role, "active");
+            }
+        }
+    }
+
+    private void seedEquipment(Connection connection) throws SQLException, IOException {
+        SplittableRandom random = new SplittableRandom(config.seed() + 1);
+        int rows = config.equipmentRows();
+        equipmentNames = new String[rows + 1];
+        try (Copy equipment = new Copy(connection, "equipment (id, name, category, description, quantity, available, "
+                + "condition, location, usage_instructions, restrictions, last_maintenance, maintenance_interval)")) {
+            for (int id = 1; id <= rows; id++) {
+                String noun = pick(random, NOUNS);
+                String category = pick(random, CATEGORIES);
+                equipmentNames[id] = pick(random, ADJECTIVES) + " " + noun + " M" + (100 + random.nextInt(900));
+                int quantity = 1 + random.nextInt(50);
+                equipment.row(id, equipmentNames[id], category,
+                        "A " + noun.toLowerCase() + " for " + category.toLowerCase() + " coursework",
+                        quantity, quantity, pick(random, CONDITIONS),
+                        "Block " + (char) ('A' + random.nextInt(6)) + ", Room " + (100 + random.nextInt(300)),
+                        "Return in the original case", random.nextInt(4) == 0 ? "Staff supervision required" : null,
+                        EPOCH.minusDays(random.nextInt(365)), 30 * (1 + random.nextInt(12)));
+            }
+        }
+        try (Copy specifications = new Copy(connection, "equipment_specifications (equipment_id, specifications)")) {
+            for (int id = 1; id <= rows; id++) {
+                int first = random.nextInt(SPECIFICATIONS.length);
+                specifications.row(id, SPECIFICATIONS[first]);
+                specifications.row(id, SPECIFICATIONS[(first + 1 + random.nextInt(SPECIFICATIONS.length - 1))
+                        % SPECIFICATIONS.length]);
+            }
+        }
+    }
+
+    private void seedRequests(Connection connection) throws SQLException, IOException {
+        SplittableRandom random = new SplittableRandom(config.seed() + 2);
+        try (Copy copy = new Copy(connection, "requests (id, user_id, equipment_id, equipment_name, request_date, "
+                + "return_date, notes, status, created_at)")) {
+            for (int id = 1; id <= config.requestRows(); id++) {
+                int equipmentId = 1 + random.nextInt(config.equipmentRows());
+                LocalDate created = EPOCH.minusDays(random.nextInt(730));
+                copy.row(id, 1 + random.nextInt(config.userRows()), equipmentId, equipmentNames[equipmentId],
+                        created, created.plusDays(1 + random.nextInt(14)), null, requestStatus(random), created);
+            }
+        }
+    }
+
+    /**
+     * RETURNED 50%, APPROVED 15%, PENDING 15%, REJECTED 10%, OVERDUE 10%.
+     */
+    private static String requestStatus(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        if (roll < 50) {
+            return "RETURNED";
+        } else if (roll < 65) {
+            return "APPROVED";
+        } else if (roll < 80) {
+            return "PENDING";
+        } else if (roll < 90) {
+            return "REJECTED";
+        }
+        return "OVERDUE";
+    }
+
+    private int seedApprovals(Connection connection) throws SQLException, IOException {
+        SplittableRandom random = new SplittableRandom(config.seed() + 3);
+        int rows = config.approvalRows();
+        // The approve scenario walks ids 1..pending, so the PENDING rows come first
+        int pending = rows / 2;
+        try (Copy copy = new Copy(connection, "approvals (id, user_id, user_name, equipment_id, equipment_name, "
+                + "request_date, return_date, reason, status, notes, created_at)")) {
+            for (int id = 1; id <= rows; id++) {
+                int userId = 1 + random.nextInt(config.userRows());
+                int equipmentId = 1 + random.nextInt(config.equipmentRows());
+                LocalDate created = EPOCH.minusDays(random.nextInt(365));
+                String status = id <= pending ? "PENDING" : random.nextInt(3) == 0 ? "REJECTED" : "APPROVED";
+                copy.row(id, userId, userNames[userId], equipmentId, equipmentNames[equipmentId], created,
+                        created.plusDays(7), "REJECTED".equals(status) ? "Unavailable for requested dates" : null,
+                        status, null, created);
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * Moves the id sequence past the seeded rows so the services' next ids do not collide.
+     */
+    private static void finish(Connection connection, String table, String sequence) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SELECT setval('" + sequence + "', (SELECT max(id) FROM " + table + "))");
+        }
+    }
+
+    private static void analyze(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("VACUUM ANALYZE");
+        }
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * Streams CSV rows into one COPY ... FROM STDIN, sent in chunks of about a megabyte.
+     */
+    private static final class Copy implements AutoCloseable {
+        private final CopyManager copyManager;
+        private final String sql;
+        private final StringBuilder buffer = new StringBuilder(COPY_CHUNK_CHARS + 4096);
+
+        Copy(Connection connection, String target) throws SQLException {
+            this.copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            this.sql = "COPY " + target + " FROM STDIN WITH (FORMAT csv)";
+        }
+
+        void row(Object... values) throws SQLException, IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                Object value = values[i];
+                if (value instanceof String text) {
+                    buffer.append('"').append(text.replace("\"", "\"\"")).append('"');
+                } else if (value != null) {
+                    buffer.append(value);
+                }
+            }
+            buffer.append('\n');
+            if (buffer.length() >= COPY_CHUNK_CHARS) {
+                flush();
+            }
+        }
+
+        private void flush() throws SQLException, IOException {
+            if (!buffer.isEmpty()) {
+                copyManager.copyIn(sql, new StringReader(buffer.toString()));
+                buffer.setLength(0);
+            }
+        }
+
+        @Override
+        public void close() throws SQLException, IOException {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package org.bits.assignment.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * A throwaway PostgreSQL server holding one database per service.
+ * The server runs with durability switched off; it only has to survive the run.
+ */
+final class EmbeddedDatabase implements AutoCloseable {
+
+    static final String EQUIPMENT_DB = "equipmentdb";
+    static final String USER_DB = "userdb";
+    private static final String USER = "postgres";
+
+    private final EmbeddedPostgres postgres;
+
+    private EmbeddedDatabase(EmbeddedPostgres postgres) {
+        this.postgres = postgres;
+    }
+
+    static EmbeddedDatabase start() throws IOException, SQLException {
+        EmbeddedPostgres postgres = EmbeddedPostgres.builder()
+                .setServerConfig("max_connections", "200")
+                .setServerConfig("shared_buffers", "512MB")
+                .setServerConfig("fsync", "off")
+                .setServerConfig("synchronous_commit", "off")
+                .setServerConfig("full_page_writes", "off")
+                .start();
+        EmbeddedDatabase database = new EmbeddedDatabase(postgres);
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE DATABASE " + EQUIPMENT_DB);
+            statement.execute("CREATE DATABASE " + USER_DB);
+        }
+        return database;
+    }
+
+    String jdbcUrl(String database) {
+        return postgres.getJdbcUrl(USER, database);
+    }
+
+    String username() {
+        return USER;
+    }
+
+    Connection connect(String database) throws SQLException {
+        return DriverManager.getConnection(jdbcUrl(database), USER, "");
+    }
+
+    @Override
+    public void close() throws IOException {
+        postgres.close();
+    }
+}
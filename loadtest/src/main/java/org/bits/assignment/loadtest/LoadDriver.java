@@ -0,0 +1,133 @@
+package org.bits.assignment.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop load: each worker sends one request, waits for the answer, and sends the next.
+ *
+ * A closed loop slows down with the system under test, so latency percentiles understate
+ * what users arriving at a fixed rate would see during a stall (coordinated omission).
+ * Compare runs by throughput and percentiles together, never percentiles alone.
+ */
+final class LoadDriver {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private final HttpClient client;
+    private final List<Scenario> scenarios;
+    private final int[] cumulativeWeights;
+    private final Map<String, Stats> stats = new LinkedHashMap<>();
+
+    LoadDriver(HttpClient client, List<Scenario> scenarios) {
+        this.client = client;
+        this.scenarios = scenarios;
+        this.cumulativeWeights = new int[scenarios.size()];
+        int total = 0;
+        for (int i = 0; i < scenarios.size(); i++) {
+            total += scenarios.get(i).weight();
+            cumulativeWeights[i] = total;
+            stats.put(scenarios.get(i).name(), new Stats());
+        }
+    }
+
+    /**
+     * Runs the warmup unrecorded, then the measured phase, and returns what was measured.
+     */
+    Map<String, Stats> run(LoadTestConfig config) throws InterruptedException {
+        long start = System.nanoTime();
+        long recordFrom = start + config.warmup().toNanos();
+        long stopAt = recordFrom + config.duration().toNanos();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < config.concurrency(); i++) {
+                Session session = new Session(new SplittableRandom(config.seed() * 31 + i));
+                workers.submit(() -> work(session, recordFrom, stopAt));
+            }
+            workers.shutdown();
+            if (!workers.awaitTermination(config.warmup().plus(config.duration()).toSeconds() + 60, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        }
+        return stats;
+    }
+
+    private void work(Session session, long recordFrom, long stopAt) {
+        while (true) {
+            Scenario scenario = pick(session.random);
+            long sent = System.nanoTime();
+            if (sent >= stopAt) {
+                return;
+            }
+            Stats scenarioStats = stats.get(scenario.name());
+            String status;
+            try {
+                HttpResponse<String> response = client.send(scenario.request(session),
+                        HttpResponse.BodyHandlers.ofString());
+                status = String.valueOf(response.statusCode());
+                if (response.statusCode() < 400) {
+                    scenario.onResponse(session, response);
+                } else if (scenarioStats.firstErrorLogged.compareAndSet(false, true)) {
+                    String body = response.body();
+                    System.out.println("[loadtest] First " + status + " from " + scenario.name() + ": "
+                            + body.substring(0, Math.min(body.length(), 300)));
+                }
+            } catch (IOException e) {
+                status = e.getClass().getSimpleName();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long received = System.nanoTime();
+            if (sent >= recordFrom && received <= stopAt) {
+                scenarioStats.record(status, (received - sent) / 1_000, scenario.itemsPerRequest());
+            }
+        }
+    }
+
+    private Scenario pick(SplittableRandom random) {
+        int roll = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return scenarios.get(i);
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+
+    /**
+     * Latencies (microseconds) and outcomes of one scenario's measured requests, and the
+     * items carried by the successful ones.
+     */
+    static final class Stats {
+        final Histogram latencyMicros = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        final Map<String, LongAdder> statuses = new ConcurrentHashMap<>();
+        final LongAdder errors = new LongAdder();
+        final LongAdder items = new LongAdder();
+        final AtomicBoolean firstErrorLogged = new AtomicBoolean();
+
+        void record(String status, long micros, int itemsPerRequest) {
+            latencyMicros.recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+            statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+            if (!Character.isDigit(status.charAt(0)) || status.charAt(0) >= '4') {
+                errors.increment();
+            } else {
+                items.add(itemsPerRequest);
+            }
+        }
+    }
+}
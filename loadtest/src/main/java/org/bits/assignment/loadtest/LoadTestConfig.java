@@ -0,0 +1,137 @@
+package org.bits.assignment.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Options for one load-test run, parsed from {@code --name=value} arguments.
+ *
+ * - duration, warmup : seconds of measured and unmeasured load (default 60, 15)
+ * - concurrency      : closed-loop workers, each with one request in flight (default 64)
+ * - scale            : fraction of the full seed volumes (default 1.0 = 100k equipment,
+ *                      1M requests, 200k users)
+ * - seed             : random seed for generated data and request mix (default 42)
+ * - report           : where the JSON report is written
+ * - equipment-jar, user-jar : service jars to launch
+ * - scenarios        : comma-separated scenario names to run instead of the default mix
+ * - equipment:NAME, user:NAME : extra Spring property passed to that service,
+ *                      e.g. --equipment:equipment.cache.ttl-seconds=0
+ */
+record LoadTestConfig(Duration duration,
+                      Duration warmup,
+                      int concurrency,
+                      double scale,
+                      long seed,
+                      Path report,
+                      Path equipmentJar,
+                      Path userJar,
+                      Set<String> scenarios,
+                      Map<String, String> equipmentProperties,
+                      Map<String, String> userProperties) {
+
+    private static final String EQUIPMENT_PROPERTY = "equipment:";
+    private static final String USER_PROPERTY = "user:";
+
+    static final int FULL_EQUIPMENT = 100_000;
+    static final int FULL_REQUESTS = 1_000_000;
+    static final int FULL_USERS = 200_000;
+    static final int FULL_APPROVALS = 100_000;
+
+    static LoadTestConfig parse(String[] args, Path baseDir) {
+        Map<String, String> options = new HashMap<>();
+        Map<String, String> equipmentProperties = new TreeMap<>();
+        Map<String, String> userProperties = new TreeMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            String name = arg.substring(2, eq);
+            String value = arg.substring(eq + 1);
+            if (name.startsWith(EQUIPMENT_PROPERTY)) {
+                equipmentProperties.put(name.substring(EQUIPMENT_PROPERTY.length()), value);
+            } else if (name.startsWith(USER_PROPERTY)) {
+                userProperties.put(name.substring(USER_PROPERTY.length()), value);
+            } else {
+                options.put(name, value);
+            }
+        }
+        Path root = baseDir.getParent();
+        LoadTestConfig config = new LoadTestConfig(
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "60"))),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "15"))),
+                Integer.parseInt(options.getOrDefault("concurrency", "64")),
+                Double.parseDouble(options.getOrDefault("scale", "1.0")),
+                Long.parseLong(options.getOrDefault("seed", "42")),
+                Path.of(options.getOrDefault("report", baseDir.resolve("target/loadtest/report.json").toString())),
+                Path.of(options.getOrDefault("equipment-jar",
+                        root.resolve("equipmentservice/target/equipmentservice-0.0.1-SNAPSHOT.jar").toString())),
+                Path.of(options.getOrDefault("user-jar",
+                        root.resolve("user-service/target/user-service-0.0.1-SNAPSHOT.jar").toString())),
+                Arrays.stream(options.getOrDefault("scenarios", "").split(","))
+                        .map(String::trim)
+                        .filter(name -> !name.isEmpty())
+                        .collect(Collectors.toCollection(TreeSet::new)),
+                equipmentProperties,
+                userProperties);
+        options.keySet().removeAll(Set.of("duration", "warmup", "concurrency", "scale", "seed", "report",
+                "equipment-jar", "user-jar", "scenarios"));
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + options.keySet());
+        }
+        return config;
+    }
+
+    int equipmentRows() {
+        return scaled(FULL_EQUIPMENT);
+    }
+
+    int requestRows() {
+        return scaled(FULL_REQUESTS);
+    }
+
+    int userRows() {
+        return scaled(FULL_USERS);
+    }
+
+    int approvalRows() {
+        return scaled(FULL_APPROVALS);
+    }
+
+    private int scaled(int full) {
+        return Math.max(100, (int) Math.round(full * scale));
+    }
+
+    /**
+     * The settings that make two reports comparable, in a stable order.
+     */
+    Map<String, Object> describe() {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("durationSeconds", duration.toSeconds());
+        description.put("warmupSeconds", warmup.toSeconds());
+        description.put("concurrency", concurrency);
+        description.put("seed", seed);
+        description.put("equipment", equipmentRows());
+        description.put("requests", requestRows());
+        description.put("users", userRows());
+        description.put("approvals", approvalRows());
+        if (!scenarios.isEmpty()) {
+            description.put("scenarios", String.join(",", scenarios));
+        }
+        if (!equipmentProperties.isEmpty()) {
+            description.put("equipmentProperties", equipmentProperties);
+        }
+        if (!userProperties.isEmpty()) {
+            description.put("userProperties", userProperties);
+        }
+        return description;
+    }
+}
@@ -0,0 +1,177 @@
+package org.bits.assignment.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Boots both services against an embedded PostgreSQL, seeds a fixed data set, drives the
+ * scenario mix over HTTP while sampling the services' memory, and writes a JSON report.
+ *
+ * Usage:
+ *   run [--name=value ...]          see LoadTestConfig for options
+ *   compare baseline.json candidate.json
+ */
+public final class LoadTestMain {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+    private static final int EQUIPMENT_PORT = 18082;
+    private static final int USER_PORT = 18081;
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && args[0].equals("compare")) {
+            if (args.length != 3) {
+                throw new IllegalArgumentException("Usage: compare baseline.json candidate.json");
+            }
+            Report.compare(Path.of(args[1]), Path.of(args[2]), System.out);
+            return;
+        }
+        Path baseDir = Path.of(System.getProperty("loadtest.baseDir", ".")).toAbsolutePath();
+        String[] options = args.length > 0 && args[0].equals("run") ? List.of(args).subList(1, args.length)
+                .toArray(String[]::new) : args;
+        run(LoadTestConfig.parse(options, baseDir), baseDir);
+    }
+
+    private static void run(LoadTestConfig config, Path baseDir) throws Exception {
+        Scenarios.checkNames(config);
+        Path logDir = config.report().toAbsolutePath().getParent();
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        try (EmbeddedDatabase database = EmbeddedDatabase.start();
+             AuthStub authStub = AuthStub.start()) {
+            log("Embedded PostgreSQL ready; migrating schemas");
+            // First boot only runs the Flyway migrations, so seeding sees the final schema
+            startServices(config, database, authStub, logDir, client).close();
+
+            log("Seeding " + config.describe());
+            long seedStart = System.nanoTime();
+            int pendingApprovals = new DataSeeder(config, database).seed();
+            log("Seeded in " + Duration.ofNanos(System.nanoTime() - seedStart).toSeconds() + "s");
+
+            // Second boot starts with cold caches over the seeded data
+            try (Services services = startServices(config, database, authStub, logDir, client)) {
+                Scenarios.Tokens tokens = new Scenarios.Tokens(
+                        login(client, services.user().baseUrl(), DataSeeder.ADMIN_EMAIL),
+                        login(client, services.user().baseUrl(), DataSeeder.STUDENT_EMAIL),
+                        2);
+                List<Scenario> scenarios = Scenarios.select(services.equipment().baseUrl(), services.user().baseUrl(),
+                        tokens, config, pendingApprovals);
+
+                log("Warming up for " + config.warmup().toSeconds() + "s, then measuring for "
+                        + config.duration().toSeconds() + "s with " + config.concurrency() + " workers");
+                MemorySampler memory = MemorySampler.start(client, List.of(services.equipment(), services.user()), config);
+                Map<String, LoadDriver.Stats> stats = new LoadDriver(client, scenarios).run(config);
+
+                Report.write(Report.build(commit(baseDir), config, stats, memory.summarize()), config.report());
+                Report.print(config.report(), System.out);
+            }
+        }
+    }
+
+    private static Services startServices(LoadTestConfig config, EmbeddedDatabase database, AuthStub authStub,
+                                          Path logDir, HttpClient client) throws IOException, InterruptedException {
+        String equipmentUrl = "http://localhost:" + EQUIPMENT_PORT;
+        ServiceProcess user = ServiceProcess.start("user-service", config.userJar(), USER_PORT, withProperties(List.of(
+                "--spring.datasource.url=" + database.jdbcUrl(EmbeddedDatabase.USER_DB),
+                "--spring.datasource.username=" + database.username(),
+                "--spring.datasource.password=",
+                "--spring.jpa.show-sql=false",
+                "--equipment.service.url=" + equipmentUrl), config.userProperties()), logDir);
+        try {
+            user.awaitHealthy(client, STARTUP_TIMEOUT);
+            ServiceProcess equipment = ServiceProcess.start("equipmentservice", config.equipmentJar(), EQUIPMENT_PORT,
+                    withProperties(List.of(
+                            "--spring.datasource.url=" + database.jdbcUrl(EmbeddedDatabase.EQUIPMENT_DB)
+                                    + "&reWriteBatchedInserts=true",
+                            "--spring.datasource.username=" + database.username(),
+                            "--spring.datasource.password=",
+                            "--spring.jpa.show-sql=false",
+                            "--auth.service.jwks-url=" + user.baseUrl() + "/api/auth/jwks",
+                            "--auth.service.url=" + authStub.validateUrl()), config.equipmentProperties()), logDir);
+            try {
+                equipment.awaitHealthy(client, STARTUP_TIMEOUT);
+            } catch (RuntimeException | InterruptedException e) {
+                equipment.close();
+                throw e;
+            }
+            return new Services(user, equipment);
+        } catch (RuntimeException | InterruptedException e) {
+            user.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Adds the properties given on the command line, replacing defaults of the same name
+     * (Spring would join repeated arguments into one comma-separated value).
+     */
+    private static List<String> withProperties(List<String> arguments, Map<String, String> properties) {
+        List<String> all = new ArrayList<>();
+        for (String argument : arguments) {
+            String name = argument.substring(2, argument.indexOf('='));
+            if (!properties.containsKey(name)) {
+                all.add(argument);
+            }
+        }
+        properties.forEach((name, value) -> all.add("--" + name + "=" + value));
+        return all;
+    }
+
+    private static String login(HttpClient client, String userUrl, String email) throws IOException, InterruptedException {
+        String body = MAPPER.writeValueAsString(Map.of("email", email, "password", DataSeeder.PASSWORD));
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(userUrl + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        JsonNode token = MAPPER.readTree(response.body()).path("token");
+        if (response.statusCode() != 200 || !token.isTextual()) {
+            throw new IllegalStateException("Login as " + email + " failed: " + response.statusCode() + " " + response.body());
+        }
+        return token.asText();
+    }
+
+    private static String commit(Path baseDir) {
+        try {
+            Process git = new ProcessBuilder("git", "rev-parse", "--short", "HEAD").directory(baseDir.toFile()).start();
+            String commit = new String(git.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+            return git.waitFor() == 0 && !commit.isEmpty() ? commit : "unknown";
+        } catch (IOException e) {
+            return "unknown";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "unknown";
+        }
+    }
+
+    private static void log(String message) {
+        System.out.println("[loadtest] " + message);
+    }
+
+    private record Services(ServiceProcess user, ServiceProcess equipment) implements AutoCloseable {
+        @Override
+        public void close() throws InterruptedException {
+            equipment.close();
+            user.close();
+        }
+    }
+}
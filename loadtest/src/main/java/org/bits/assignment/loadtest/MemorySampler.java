@@ -0,0 +1,171 @@
+package org.bits.assignment.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples each service's memory once a second during the measured phase.
+ *
+ * Resident set size and the OS thread count are read from /proc for the child process
+ * (Linux only), so they are sampled even while the service is too busy to answer.
+ * Heap and non-heap use come from the service's /actuator/prometheus, when it answers
+ * within the interval. Heap use swings with every collection, so the report keeps the
+ * mean as well as the peak.
+ */
+final class MemorySampler implements AutoCloseable {
+
+    private static final Duration INTERVAL = Duration.ofSeconds(1);
+    private static final double MB = 1024 * 1024;
+
+    private final HttpClient client;
+    private final Map<String, Samples> samples = new TreeMap<>();
+    private final List<Thread> threads = new ArrayList<>();
+
+    private MemorySampler(HttpClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Starts sampling after the warmup; call together with {@link LoadDriver#run}.
+     */
+    static MemorySampler start(HttpClient client, List<ServiceProcess> services, LoadTestConfig config) {
+        MemorySampler sampler = new MemorySampler(client);
+        long recordFrom = System.nanoTime() + config.warmup().toNanos();
+        long stopAt = recordFrom + config.duration().toNanos();
+        for (ServiceProcess service : services) {
+            Samples serviceSamples = new Samples();
+            sampler.samples.put(service.name(), serviceSamples);
+            sampler.threads.add(Thread.ofVirtual().name("memory-sampler-" + service.name())
+                    .start(() -> sampler.run(service, serviceSamples, recordFrom, stopAt)));
+        }
+        return sampler;
+    }
+
+    private void run(ServiceProcess service, Samples serviceSamples, long recordFrom, long stopAt) {
+        HttpRequest scrape = HttpRequest.newBuilder(URI.create(service.baseUrl() + "/actuator/prometheus"))
+                .timeout(INTERVAL)
+                .build();
+        try {
+            TimeUnit.NANOSECONDS.sleep(recordFrom - System.nanoTime());
+            while (System.nanoTime() < stopAt) {
+                long next = System.nanoTime() + INTERVAL.toNanos();
+                sampleProcess(service.pid(), serviceSamples);
+                sampleJvm(scrape, serviceSamples);
+                TimeUnit.NANOSECONDS.sleep(next - System.nanoTime());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sampleProcess(long pid, Samples serviceSamples) {
+        long resident = -1;
+        long osThreads = -1;
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc", String.valueOf(pid), "status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    resident = Long.parseLong(line.replaceAll("\\D", "")) * 1024;
+                } else if (line.startsWith("Threads:")) {
+                    osThreads = Long.parseLong(line.replaceAll("\\D", ""));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // Not Linux, or the process has exited
+            return;
+        }
+        serviceSamples.addProcess(resident, osThreads);
+    }
+
+    private void sampleJvm(HttpRequest scrape, Samples serviceSamples) throws InterruptedException {
+        try {
+            HttpResponse<String> response = client.send(scrape, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                return;
+            }
+            long heap = 0;
+            long nonHeap = 0;
+            for (String line : response.body().split("\n")) {
+                if (line.startsWith("jvm_memory_used_bytes{")) {
+                    long value = (long) Double.parseDouble(line.substring(line.lastIndexOf(' ') + 1));
+                    if (line.contains("area=\"heap\"")) {
+                        heap += value;
+                    } else {
+                        nonHeap += value;
+                    }
+                }
+            }
+            serviceSamples.addJvm(heap, nonHeap);
+        } catch (IOException e) {
+            // Missed sample; the service did not answer within the interval
+        }
+    }
+
+    /**
+     * Stops sampling and summarizes, per service, in megabytes.
+     */
+    Map<String, Object> summarize() throws InterruptedException {
+        close();
+        Map<String, Object> summary = new TreeMap<>();
+        samples.forEach((name, serviceSamples) -> summary.put(name, serviceSamples.summarize()));
+        return summary;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        for (Thread thread : threads) {
+            thread.interrupt();
+            thread.join();
+        }
+    }
+
+    private static final class Samples {
+        int processSamples;
+        long residentMax;
+        long osThreadsMax;
+        int jvmSamples;
+        long heapTotal;
+        long heapMax;
+        long nonHeapMax;
+
+        void addProcess(long resident, long osThreads) {
+            processSamples++;
+            residentMax = Math.max(residentMax, resident);
+            osThreadsMax = Math.max(osThreadsMax, osThreads);
+        }
+
+        void addJvm(long heap, long nonHeap) {
+            jvmSamples++;
+            heapTotal += heap;
+            heapMax = Math.max(heapMax, heap);
+            nonHeapMax = Math.max(nonHeapMax, nonHeap);
+        }
+
+        Map<String, Object> summarize() {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("processSamples", processSamples);
+            summary.put("residentMaxMb", round(residentMax / MB));
+            summary.put("osThreadsMax", osThreadsMax);
+            summary.put("jvmSamples", jvmSamples);
+            summary.put("heapUsedMeanMb", jvmSamples == 0 ? 0.0 : round(heapTotal / (double) jvmSamples / MB));
+            summary.put("heapUsedMaxMb", round(heapMax / MB));
+            summary.put("nonHeapUsedMaxMb", round(nonHeapMax / MB));
+            return summary;
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 10) / 10.0;
+        }
+    }
+}
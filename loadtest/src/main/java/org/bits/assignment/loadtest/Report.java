@@ -0,0 +1,164 @@
+package org.bits.assignment.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Run results (latency, throughput and sampled service memory) as JSON with sorted keys,
+ * so two reports diff line by line, plus a console table and a side-by-side comparison
+ * of two saved reports.
+ */
+final class Report {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
+    private Report() {
+    }
+
+    static Map<String, Object> build(String commit, LoadTestConfig config, Map<String, LoadDriver.Stats> stats,
+                                     Map<String, Object> memory) {
+        double seconds = config.duration().toMillis() / 1000.0;
+        Map<String, Object> scenarios = new TreeMap<>();
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        for (Map.Entry<String, LoadDriver.Stats> entry : stats.entrySet()) {
+            LoadDriver.Stats scenario = entry.getValue();
+            Map<String, Object> summary = summarize(scenario.latencyMicros, scenario.errors.sum(), seconds);
+            summary.put("itemsPerSecond", round(scenario.items.sum() / seconds));
+            Map<String, Long> statuses = new TreeMap<>();
+            scenario.statuses.forEach((status, count) -> statuses.put(status, count.sum()));
+            summary.put("statuses", statuses);
+            scenarios.put(entry.getKey(), summary);
+            total.add(scenario.latencyMicros);
+            totalErrors += scenario.errors.sum();
+        }
+        Map<String, Object> report = new TreeMap<>();
+        report.put("commit", commit);
+        report.put("config", config.describe());
+        report.put("memory", memory);
+        report.put("scenarios", scenarios);
+        report.put("total", summarize(total, totalErrors, seconds));
+        return report;
+    }
+
+    private static Map<String, Object> summarize(Histogram latencyMicros, long errors, double seconds) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", latencyMicros.getTotalCount());
+        summary.put("errors", errors);
+        summary.put("throughputPerSecond", round(latencyMicros.getTotalCount() / seconds));
+        summary.put("p50Ms", millis(latencyMicros.getValueAtPercentile(50)));
+        summary.put("p90Ms", millis(latencyMicros.getValueAtPercentile(90)));
+        summary.put("p99Ms", millis(latencyMicros.getValueAtPercentile(99)));
+        summary.put("p999Ms", millis(latencyMicros.getValueAtPercentile(99.9)));
+        summary.put("maxMs", millis(latencyMicros.getMaxValue()));
+        return summary;
+    }
+
+    static void write(Map<String, Object> report, Path path) throws IOException {
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        MAPPER.writeValue(path.toFile(), report);
+    }
+
+    static void print(Path path, PrintStream out) throws IOException {
+        JsonNode report = MAPPER.readTree(path.toFile());
+        out.printf("%n%-18s %9s %9s %7s %9s %9s %9s %9s %9s%n",
+                "scenario", "req/s", "items/s", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        Iterator<Map.Entry<String, JsonNode>> scenarios = report.path("scenarios").fields();
+        while (scenarios.hasNext()) {
+            Map.Entry<String, JsonNode> scenario = scenarios.next();
+            printRow(out, scenario.getKey(), scenario.getValue());
+        }
+        printRow(out, "total", report.path("total"));
+        out.printf("%n%-18s %12s %13s %14s %13s %16s%n",
+                "service", "RSS max MB", "threads max", "heap mean MB", "heap max MB", "non-heap max MB");
+        Iterator<Map.Entry<String, JsonNode>> services = report.path("memory").fields();
+        while (services.hasNext()) {
+            Map.Entry<String, JsonNode> service = services.next();
+            JsonNode memory = service.getValue();
+            out.printf("%-18s %12.1f %13d %14.1f %13.1f %16.1f%n", service.getKey(),
+                    memory.path("residentMaxMb").asDouble(), memory.path("osThreadsMax").asLong(),
+                    memory.path("heapUsedMeanMb").asDouble(), memory.path("heapUsedMaxMb").asDouble(),
+                    memory.path("nonHeapUsedMaxMb").asDouble());
+        }
+        out.println("Report: " + path);
+    }
+
+    private static void printRow(PrintStream out, String name, JsonNode row) {
+        out.printf("%-18s %9.1f %9s %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n", name,
+                row.path("throughputPerSecond").asDouble(),
+                row.has("itemsPerSecond") ? String.format("%.1f", row.path("itemsPerSecond").asDouble()) : "",
+                row.path("errors").asLong(),
+                row.path("p50Ms").asDouble(), row.path("p90Ms").asDouble(), row.path("p99Ms").asDouble(),
+                row.path("p999Ms").asDouble(), row.path("maxMs").asDouble());
+    }
+
+    /**
+     * Prints throughput and percentile changes from a baseline report to a candidate report.
+     */
+    static void compare(Path baseline, Path candidate, PrintStream out) throws IOException {
+        JsonNode before = MAPPER.readTree(baseline.toFile());
+        JsonNode after = MAPPER.readTree(candidate.toFile());
+        if (!before.path("config").equals(after.path("config"))) {
+            out.println("WARNING: reports were produced with different settings; deltas are not comparable");
+        }
+        out.printf("%s (%s) -> %s (%s)%n", baseline, before.path("commit").asText(),
+                candidate, after.path("commit").asText());
+        out.printf("%-18s %17s %17s %17s %9s%n", "scenario", "req/s", "p50 ms", "p99 ms", "errors");
+        Iterator<String> names = after.path("scenarios").fieldNames();
+        while (names.hasNext()) {
+            String name = names.next();
+            compareRow(out, name, before.path("scenarios").path(name), after.path("scenarios").path(name));
+        }
+        compareRow(out, "total", before.path("total"), after.path("total"));
+        out.printf("%-18s %17s %17s %17s%n", "service", "RSS max MB", "threads max", "heap mean MB");
+        Iterator<String> services = after.path("memory").fieldNames();
+        while (services.hasNext()) {
+            String service = services.next();
+            JsonNode from = before.path("memory").path(service);
+            JsonNode to = after.path("memory").path(service);
+            out.printf("%-18s %17s %17s %17s%n", service,
+                    delta(from.path("residentMaxMb"), to.path("residentMaxMb")),
+                    delta(from.path("osThreadsMax"), to.path("osThreadsMax")),
+                    delta(from.path("heapUsedMeanMb"), to.path("heapUsedMeanMb")));
+        }
+    }
+
+    private static void compareRow(PrintStream out, String name, JsonNode before, JsonNode after) {
+        out.printf("%-18s %17s %17s %17s %4d->%-4d%n", name,
+                delta(before.path("throughputPerSecond"), after.path("throughputPerSecond")),
+                delta(before.path("p50Ms"), after.path("p50Ms")),
+                delta(before.path("p99Ms"), after.path("p99Ms")),
+                before.path("errors").asLong(), after.path("errors").asLong());
+    }
+
+    private static String delta(JsonNode before, JsonNode after) {
+        if (before.isMissingNode()) {
+            return "new";
+        }
+        double from = before.asDouble();
+        double to = after.asDouble();
+        String change = from == 0 ? "n/a" : String.format("%+.1f%%", (to - from) * 100 / from);
+        return String.format("%.1f %s", to, change);
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,30 @@
+package org.bits.assignment.loadtest;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+/**
+ * One kind of user interaction. Workers pick scenarios at random in proportion to their weights.
+ */
+interface Scenario {
+
+    String name();
+
+    int weight();
+
+    HttpRequest request(Session session);
+
+    /**
+     * Units of work one request carries, such as the decisions in a batch or the rows of an
+     * import, so bulk endpoints can be compared with their single-item counterparts.
+     */
+    default int itemsPerRequest() {
+        return 1;
+    }
+
+    /**
+     * Lets a scenario carry state from a response into the worker's next request, such as a page cursor.
+     */
+    default void onResponse(Session session, HttpResponse<String> response) {
+    }
+}
@@ -0,0 +1,314 @@
+package org.bits.assignment.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The request mix: catalogue browsing and search dominate, as they do for the real services,
+ * with a steady trickle of borrow requests, approvals and admin user searches.
+ *
+ * Bulk scenarios (approve_batch, create_equipment, import_equipment) are not part of the
+ * mix; they run only when named with --scenarios, next to or instead of mix scenarios.
+ */
+final class Scenarios {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final Pattern NEXT_CURSOR = Pattern.compile("\"nextCursor\":\"([^\"]+)\"");
+    private static final String[] SEARCH_TERMS = {"microscope", "projector", "camera", "portable", "digital",
+            "wireless", "drone", "tripod", "laptop", "telescope", "m250", "printer"};
+    private static final String[] CATEGORIES = {"Laboratory", "Sports", "Computing", "Photography", "Robotics"};
+    private static final String[] USER_QUERIES = {"aarav", "meera", "sha", "iyer", "patel", "ro", "kavya.nair",
+            "gupta", "an", "university"};
+    private static final int APPROVAL_BATCH_SIZE = 50;
+    private static final int IMPORT_ROWS = 1000;
+
+    private Scenarios() {
+    }
+
+    /**
+     * The default mix, or the scenarios named in the config (from the mix or the bulk set).
+     *
+     * @throws IllegalArgumentException if a named scenario does not exist
+     */
+    static List<Scenario> select(String equipmentUrl, String userUrl, Tokens tokens, LoadTestConfig config,
+                                 int pendingApprovals) {
+        AtomicLong nextApproval = new AtomicLong();
+        List<Scenario> mix = mix(equipmentUrl, userUrl, tokens, config, pendingApprovals, nextApproval);
+        if (config.scenarios().isEmpty()) {
+            return mix;
+        }
+        List<Scenario> available = new ArrayList<>(mix);
+        available.addAll(bulk(equipmentUrl, tokens, pendingApprovals, nextApproval));
+        List<Scenario> selected = available.stream().filter(s -> config.scenarios().contains(s.name())).toList();
+        if (selected.size() != config.scenarios().size()) {
+            Set<String> unknown = new LinkedHashSet<>(config.scenarios());
+            selected.forEach(scenario -> unknown.remove(scenario.name()));
+            throw new IllegalArgumentException("Unknown scenarios " + unknown + "; available: "
+                    + available.stream().map(Scenario::name).toList());
+        }
+        return selected;
+    }
+
+    /**
+     * Fails fast on misspelled --scenarios, before the database is seeded.
+     */
+    static void checkNames(LoadTestConfig config) {
+        select("", "", new Tokens("", "", 0), config, 1);
+    }
+
+    private static List<Scenario> mix(String equipmentUrl, String userUrl, Tokens tokens, LoadTestConfig config,
+                                      int pendingApprovals, AtomicLong nextApproval) {
+        return List.of(
+                new Get("browse_equipment", 30, tokens.admin()) {
+                    @Override
+                    String uri(Session session) {
+                        String uri = equipmentUrl + "/api/equipment?size=50";
+                        return session.equipmentCursor == null ? uri : uri + "&cursor=" + encode(session.equipmentCursor);
+                    }
+
+                    @Override
+                    public void onResponse(Session session, HttpResponse<String> response) {
+                        Matcher matcher = NEXT_CURSOR.matcher(response.body());
+                        // Start over after the last page, or after ten pages as a reader would
+                        session.equipmentCursor = matcher.find() && session.random.nextInt(10) != 0
+                                ? matcher.group(1) : null;
+                    }
+                },
+                new Get("search_equipment", 25, tokens.admin()) {
+                    @Override
+                    String uri(Session session) {
+                        String uri = equipmentUrl + "/api/equipment/search?size=20&q="
+                                + encode(SEARCH_TERMS[session.random.nextInt(SEARCH_TERMS.length)]);
+                        return session.random.nextInt(3) == 0
+                                ? uri + "&category=" + encode(CATEGORIES[session.random.nextInt(CATEGORIES.length)])
+                                : uri;
+                    }
+                },
+                new Get("equipment_detail", 15, tokens.admin()) {
+                    @Override
+                    String uri(Session session) {
+                        return equipmentUrl + "/api/equipment/" + (1 + session.random.nextInt(config.equipmentRows()));
+                    }
+                },
+                new Scenario() {
+                    @Override
+                    public String name() {
+                        return "create_request";
+                    }
+
+                    @Override
+                    public int weight() {
+                        return 15;
+                    }
+
+                    @Override
+                    public HttpRequest request(Session session) {
+                        LocalDate from = LocalDate.now().plusDays(1 + session.random.nextInt(30));
+                        String body = "{\"userId\":\"" + tokens.studentId() + "\","
+                                + "\"equipmentId\":\"" + (1 + session.random.nextInt(config.equipmentRows())) + "\","
+                                + "\"requestDate\":\"" + from + "\","
+                                + "\"returnDate\":\"" + from.plusDays(7) + "\","
+                                + "\"notes\":\"load test\"}";
+                        return HttpRequest.newBuilder(URI.create(equipmentUrl + "/api/requests"))
+                                .timeout(TIMEOUT)
+                                .header("Authorization", "Bearer " + tokens.student())
+                                .header("Content-Type", "application/json")
+                                .POST(HttpRequest.BodyPublishers.ofString(body))
+                                .build();
+                    }
+                },
+                new Scenario() {
+                    @Override
+                    public String name() {
+                        return "approve";
+                    }
+
+                    @Override
+                    public int weight() {
+                        return 5;
+                    }
+
+                    @Override
+                    public HttpRequest request(Session session) {
+                        // Walks the seeded PENDING approvals once, then re-approves from the start
+                        long id = 1 + nextApproval.getAndIncrement() % pendingApprovals;
+                        return HttpRequest.newBuilder(URI.create(equipmentUrl + "/api/approvals/" + id + "/approve"))
+                                .timeout(TIMEOUT)
+                                .header("Authorization", "Bearer " + tokens.admin())
+                                .header("Content-Type", "application/json")
+                                .POST(HttpRequest.BodyPublishers.ofString("{\"notes\":\"load test\"}"))
+                                .build();
+                    }
+                },
+                new Get("search_users", 10, tokens.admin()) {
+                    @Override
+                    String uri(Session session) {
+                        return userUrl + "/api/users/search?role=student&size=50&q="
+                                + encode(USER_QUERIES[session.random.nextInt(USER_QUERIES.length)]);
+                    }
+                });
+    }
+
+    /**
+     * Bulk endpoints and the single-item calls they replace. Compare items/s, not req/s:
+     * approve_batch against approve, import_equipment against create_equipment.
+     */
+    private static List<Scenario> bulk(String equipmentUrl, Tokens tokens, int pendingApprovals,
+                                       AtomicLong nextApproval) {
+        AtomicLong nextEquipment = new AtomicLong();
+        return List.of(
+                new Post("approve_batch", 5, APPROVAL_BATCH_SIZE, tokens.admin(), "application/json") {
+                    @Override
+                    String uri() {
+                        return equipmentUrl + "/api/approvals/batch";
+                    }
+
+                    @Override
+                    String body(Session session) {
+                        // Walks the same PENDING approvals as approve, APPROVAL_BATCH_SIZE at a time
+                        long first = nextApproval.getAndAdd(APPROVAL_BATCH_SIZE);
+                        StringBuilder body = new StringBuilder("{\"items\":[");
+                        for (int i = 0; i < APPROVAL_BATCH_SIZE; i++) {
+                            long id = 1 + (first + i) % pendingApprovals;
+                            body.append(i == 0 ? "" : ",")
+                                    .append("{\"id\":").append(id).append(",\"decision\":\"APPROVED\",\"notes\":\"load test\"}");
+                        }
+                        return body.append("]}").toString();
+                    }
+                },
+                new Post("create_equipment", 5, 1, tokens.admin(), "application/json") {
+                    @Override
+                    String uri() {
+                        return equipmentUrl + "/api/equipment";
+                    }
+
+                    @Override
+                    String body(Session session) {
+                        long n = nextEquipment.incrementAndGet();
+                        return "{\"name\":\"Load test item " + n + "\","
+                                + "\"category\":\"" + CATEGORIES[(int) (n % CATEGORIES.length)] + "\","
+                                + "\"description\":\"Created by the load test\",\"quantity\":3,"
+                                + "\"condition\":\"good\",\"location\":\"Store " + n % 20 + "\","
+                                + "\"specifications\":[\"weight: 1kg\",\"colour: grey\"]}";
+                    }
+                },
+                new Post("import_equipment", 1, IMPORT_ROWS, tokens.admin(), "text/csv") {
+                    @Override
+                    String uri() {
+                        return equipmentUrl + "/api/equipment/import";
+                    }
+
+                    @Override
+                    String body(Session session) {
+                        long first = nextEquipment.getAndAdd(IMPORT_ROWS) + 1;
+                        StringBuilder csv = new StringBuilder("name,category,description,quantity,condition,location,specifications\n");
+                        for (long n = first; n < first + IMPORT_ROWS; n++) {
+                            csv.append("Load test item ").append(n).append(',')
+                                    .append(CATEGORIES[(int) (n % CATEGORIES.length)])
+                                    .append(",Imported by the load test,3,good,Store ").append(n % 20)
+                                    .append(",weight: 1kg;colour: grey\n");
+                        }
+                        return csv.toString();
+                    }
+                });
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Tokens issued by user-service for the seeded admin and student accounts.
+     */
+    record Tokens(String admin, String student, long studentId) {}
+
+    private abstract static class Post implements Scenario {
+        private final String name;
+        private final int weight;
+        private final int items;
+        private final String token;
+        private final String contentType;
+
+        Post(String name, int weight, int items, String token, String contentType) {
+            this.name = name;
+            this.weight = weight;
+            this.items = items;
+            this.token = token;
+            this.contentType = contentType;
+        }
+
+        abstract String uri();
+
+        abstract String body(Session session);
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public int weight() {
+            return weight;
+        }
+
+        @Override
+        public int itemsPerRequest() {
+            return items;
+        }
+
+        @Override
+        public HttpRequest request(Session session) {
+            return HttpRequest.newBuilder(URI.create(uri()))
+                    .timeout(TIMEOUT)
+                    .header("Authorization", "Bearer " + token)
+                    .header("Content-Type", contentType)
+                    .POST(HttpRequest.BodyPublishers.ofString(body(session)))
+                    .build();
+        }
+    }
+
+    private abstract static class Get implements Scenario {
+        private final String name;
+        private final int weight;
+        private final String token;
+
+        Get(String name, int weight, String token) {
+            this.name = name;
+            this.weight = weight;
+            this.token = token;
+        }
+
+        abstract String uri(Session session);
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public int weight() {
+            return weight;
+        }
+
+        @Override
+        public HttpRequest request(Session session) {
+            return HttpRequest.newBuilder(URI.create(uri(session)))
+                    .timeout(TIMEOUT)
+                    .header("Authorization", "Bearer " + token)
+                    .GET()
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package org.bits.assignment.loadtest;
+
+import java.util.SplittableRandom;
+
+/**
+ * Per-worker state, standing in for one user's browser session.
+ */
+final class Session {
+
+    final SplittableRandom random;
+    String equipmentCursor;
+
+    Session(SplittableRandom random) {
+        this.random = random;
+    }
+}
@@ -0,0 +1,131 @@
+package org.bits.assignment.user_service.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bits.assignment.user_service.entity.SigningKey;
+import org.bits.assignment.user_service.repository.SigningKeyRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtUtil signing and verification with the RS256 keyset, and the per-request cost of
+ * authentication in JwtAuthFilter:
+ * - authThreeParses: the former filter path, three parses each with a freshly built parser
+ * - authSingleParse: one parse with the shared parser (a token cache miss)
+ * - authCached: a TokenValidationCache hit, the common case for a returning client
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+    private SigningKeyService signingKeyService;
+    private JwtUtil jwtUtil;
+    private TokenValidationCache tokenValidationCache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        signingKeyService = new SigningKeyService(inMemoryRepository(),
+                new TransactionTemplate(new NoOpTransactionManager()),
+                "benchmark-secret", 720, 15, TimeUnit.HOURS.toMillis(1));
+        signingKeyService.init();
+        jwtUtil = new JwtUtil(signingKeyService, TimeUnit.HOURS.toMillis(1));
+        tokenValidationCache = new TokenValidationCache(jwtUtil, 1000, 300, new SimpleMeterRegistry());
+        token = jwtUtil.generateToken("student@example.com", "STUDENT");
+        tokenValidationCache.resolve(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("student@example.com", "STUDENT");
+    }
+
+    @Benchmark
+    public Object extractClaims() {
+        return jwtUtil.extractClaims(token);
+    }
+
+    @Benchmark
+    public void authThreeParses(Blackhole blackhole) {
+        // isTokenValid, extractEmail and extractRole, each building its own parser
+        blackhole.consume(parseWithNewParser(token));
+        blackhole.consume(parseWithNewParser(token).getSubject());
+        blackhole.consume(parseWithNewParser(token).get("role", String.class));
+    }
+
+    @Benchmark
+    public JwtPrincipal authSingleParse() {
+        return jwtUtil.parse(token);
+    }
+
+    @Benchmark
+    public JwtPrincipal authCached() {
+        return tokenValidationCache.resolve(token);
+    }
+
+    private Claims parseWithNewParser(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKeyResolver(signingKeyService)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    private static SigningKeyRepository inMemoryRepository() {
+        List<SigningKey> keys = new ArrayList<>();
+        return (SigningKeyRepository) Proxy.newProxyInstance(JwtBenchmark.class.getClassLoader(),
+                new Class<?>[]{SigningKeyRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "findAllByOrderByActivatedAtAsc" -> keys.stream()
+                            .sorted(Comparator.comparing(SigningKey::getActivatedAt)).toList();
+                    case "lockForRotation" -> null;
+                    case "save" -> {
+                        keys.remove(args[0]);
+                        keys.add((SigningKey) args[0]);
+                        yield args[0];
+                    }
+                    case "delete" -> {
+                        keys.remove(args[0]);
+                        yield null;
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package org.bits.assignment.user_service.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.bits.assignment.user_service.entity.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Fills User.activeRequests and User.totalBorrows from equipmentservice.
+ *
+ * Counts for a whole page of users come from one POST /api/requests/counts call, sent
+ * with the caller's Authorization header (the endpoint is admin-only). Results are kept
+ * for a short TTL so paging back and forth does not repeat the call. If equipmentservice
+ * cannot be reached the fields are left null rather than failing the user listing.
+ */
+@Component
+public class RequestCountsClient {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestCountsClient.class);
+
+    private record CountsQuery(List<String> userIds) {}
+
+    private record RequestCounts(String userId, long activeRequests, long totalBorrows) {}
+
+    private final RestClient restClient;
+    private final int maxIdsPerCall;
+    private final Cache<Long, RequestCounts> cache;
+
+    public RequestCountsClient(@Value("${equipment.service.url}") String baseUrl,
+                               @Value("${equipment.service.timeout-ms:2000}") long timeoutMs,
+                               @Value("${equipment.service.counts.max-ids-per-call:1000}") int maxIdsPerCall,
+                               @Value("${equipment.service.counts.cache-ttl-seconds:30}") long cacheTtlSeconds,
+                               @Value("${equipment.service.counts.cache-size:50000}") long cacheSize) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(timeoutMs))
+                .build());
+        requestFactory.setReadTimeout(Duration.ofMillis(timeoutMs));
+        this.restClient = RestClient.builder()
+                .baseUrl(baseUrl)
+                .requestFactory(requestFactory)
+                .build();
+        this.maxIdsPerCall = maxIdsPerCall;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Sets activeRequests and totalBorrows on each user, fetching only ids not in the cache.
+     *
+     * @param authorization the caller's Authorization header, forwarded to equipmentservice
+     */
+    public void fillRequestCounts(List<User> users, String authorization) {
+        if (users.isEmpty()) {
+            return;
+        }
+        Set<Long> ids = new LinkedHashSet<>();
+        users.forEach(user -> ids.add(user.getId()));
+        Map<Long, RequestCounts> counts = new HashMap<>(cache.getAllPresent(ids));
+        ids.removeAll(counts.keySet());
+
+        List<Long> missing = new ArrayList<>(ids);
+        for (int from = 0; from < missing.size(); from += maxIdsPerCall) {
+            List<Long> chunk = missing.subList(from, Math.min(from + maxIdsPerCall, missing.size()));
+            try {
+                for (RequestCounts fetched : fetch(chunk, authorization)) {
+                    Long id = Long.valueOf(fetched.userId());
+                    counts.put(id, fetched);
+                    cache.put(id, fetched);
+                }
+            } catch (RestClientException | NumberFormatException e) {
+                log.warn("Could not load request counts for {} users from equipmentservice", chunk.size(), e);
+                break;
+            }
+        }
+
+        for (User user : users) {
+            RequestCounts userCounts = counts.get(user.getId());
+            if (userCounts != null) {
+                user.setActiveRequests(Math.toIntExact(userCounts.activeRequests()));
+                user.setTotalBorrows(Math.toIntExact(userCounts.totalBorrows()));
+            }
+        }
+    }
+
+    private List<RequestCounts> fetch(List<Long> userIds, String authorization) {
+        List<RequestCounts> body = restClient.post()
+                .uri("/api/requests/counts")
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(headers -> {
+                    if (authorization != null) {
+                        headers.set(HttpHeaders.AUTHORIZATION, authorization);
+                    }
+                })
+                .body(new CountsQuery(userIds.stream().map(String::valueOf).toList()))
+                .retrieve()
+                .body(new ParameterizedTypeReference<>() {});
+        return body != null ? body : List.of();
+    }
+}
@@ -0,0 +1,12 @@
+package org.bits.assignment.user_service.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs such as signing key rotation.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,11 +1,16 @@
 package org.bits.assignment.user_service.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import org.bits.assignment.user_service.entity.User;
 import org.bits.assignment.user_service.service.UserService;
 import org.bits.assignment.user_service.security.JwtUtil;
+import org.bits.assignment.user_service.security.SigningKeyService;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -13,6 +18,9 @@ import java.util.Optional;
  * - /api/auth/login      : authenticate user and return JWT
  * - /api/auth/signup     : register new user and return JWT
  * - /api/auth/forgot-password : trigger password reset flow (dummy)
+ * - /api/auth/jwks       : public keys for verifying issued tokens (JWK Set)
+ *
+ * GET /api/auth/validate is served by TokenValidationFilter before requests reach this controller.
  *
  * This controller uses UserService for user operations and JwtUtil to create tokens.
  */
@@ -22,16 +30,18 @@ public class AuthController {
 
     private final UserService userService;
     private final JwtUtil jwtUtil;
+    private final SigningKeyService signingKeyService;
 
-    public AuthController(UserService userService, JwtUtil jwtUtil) {
+    public AuthController(UserService userService, JwtUtil jwtUtil, SigningKeyService signingKeyService) {
         this.userService = userService;
         this.jwtUtil = jwtUtil;
+        this.signingKeyService = signingKeyService;
     }
 
 
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody AuthRequest request) {
-        Optional<User> userOpt = userService.login(request.email(), request.password());
+    public ResponseEntity<?> login(@RequestBody AuthRequest request, HttpServletRequest httpRequest) {
+        Optional<User> userOpt = userService.login(request.email(), request.password(), httpRequest.getRemoteAddr());
         if (userOpt.isPresent()) {
             User user = userOpt.get();
             String token = jwtUtil.generateToken(user.getEmail(), user.getRole());
@@ -43,7 +53,7 @@ public class AuthController {
     }
 
     @PostMapping("/signup")
-    public ResponseEntity<?> signup(@RequestBody SignupRequest request) throws Exception {
+    public ResponseEntity<?> signup(@RequestBody SignupRequest request) {
         User user = new User();
         user.setName(request.name());
         user.setEmail(request.email());
@@ -67,6 +77,14 @@ public class AuthController {
         }
     }
 
+    // Verifiers refresh well within the pre-publication period, so a short max-age is enough
+    @GetMapping("/jwks")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(signingKeyService.jwks());
+    }
+
     public record AuthRequest(String email, String password) {}
     public record SignupRequest(String name, String email, String password, String role) {}
     public record ForgotPasswordRequest(String email) {}
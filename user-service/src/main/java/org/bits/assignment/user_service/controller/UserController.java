@@ -1,19 +1,30 @@
 package org.bits.assignment.user_service.controller;
 
+import org.bits.assignment.user_service.client.RequestCountsClient;
 import org.bits.assignment.user_service.entity.User;
+import org.bits.assignment.user_service.service.UserProvisioningService;
+import org.bits.assignment.user_service.service.UserProvisioningService.ProvisioningResult;
 import org.bits.assignment.user_service.service.UserService;
+import org.bits.assignment.user_service.service.UserService.UserSearchResult;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 /**
  * REST controller for user management operations exposed under /api/users.
  * Endpoints include:
- * - GET /api/users                : list all users
- * - GET /api/users/search?q=&role: search users by name/email and filter by role
+ * - GET /api/users?page=&size    : one page of all users
+ * - GET /api/users/search?q=&role=&page=&size : one page of users matching name/email and role
  * - PATCH /api/users/{id}/status  : update a user's status
+ * - POST /api/users/import        : bulk-create users from a JSON array or CSV body
+ *
+ * User listings carry activeRequests/totalBorrows from equipmentservice (see RequestCountsClient).
  *
  * Access to these endpoints is controlled by SecurityConfig (ADMIN role required for /api/users/**).
  */
@@ -24,15 +35,46 @@ public class UserController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private UserProvisioningService userProvisioningService;
+
+    @Autowired
+    private RequestCountsClient requestCountsClient;
+
+    /**
+     * One page of all users ordered by id, with the same paging and headers as /search.
+     * Pages are capped well below the request-counts batch size, so each response makes
+     * at most one call to equipmentservice.
+     */
     @GetMapping
-    public ResponseEntity<List<User>> getAllUsers() {
-        return ResponseEntity.ok(userService.getAllUsers());
+    public ResponseEntity<List<User>> getAllUsers(@RequestParam(defaultValue = "0") int page,
+                                                  @RequestParam(required = false) Integer size,
+                                                  @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false)
+                                                  String authorization) {
+        return withRequestCounts(userService.listUsers(page, size), authorization);
     }
 
+    /**
+     * One page of users ordered by id. The body stays a plain array; the total number of
+     * matches is in X-Total-Count, and X-Total-Count-Capped is true when the count stopped
+     * at its cap (there are at least that many).
+     */
     @GetMapping("/search")
     public ResponseEntity<List<User>> searchUsers(@RequestParam(required = false) String q,
-                                                  @RequestParam(required = false, defaultValue = "all") String role) {
-        return ResponseEntity.ok(userService.searchUsers(q, role));
+                                                  @RequestParam(required = false, defaultValue = "all") String role,
+                                                  @RequestParam(defaultValue = "0") int page,
+                                                  @RequestParam(required = false) Integer size,
+                                                  @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false)
+                                                  String authorization) {
+        return withRequestCounts(userService.searchUsers(q, role, page, size), authorization);
+    }
+
+    private ResponseEntity<List<User>> withRequestCounts(UserSearchResult result, String authorization) {
+        requestCountsClient.fillRequestCounts(result.users(), authorization);
+        return ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(result.total()))
+                .header("X-Total-Count-Capped", String.valueOf(result.totalCapped()))
+                .body(result.users());
     }
 
     @PatchMapping("/{id}/status")
@@ -40,5 +82,15 @@ public class UserController {
         return ResponseEntity.ok(userService.updateStatus(id, request.status()));
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ProvisioningResult> importJson(InputStream body) throws IOException {
+        return ResponseEntity.ok(userProvisioningService.provisionJson(body));
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<ProvisioningResult> importCsv(InputStream body) throws IOException {
+        return ResponseEntity.ok(userProvisioningService.provisionCsv(body));
+    }
+
     record StatusRequest(String status) {}
 }
@@ -0,0 +1,45 @@
+package org.bits.assignment.user_service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * JPA entity for a JWT signing key pair.
+ * Fields:
+ * - kid: key id written to the JWT header
+ * - publicKey: Base64 X.509 encoding
+ * - privateKey: Base64 AES-GCM encrypted PKCS#8 encoding
+ * - activatedAt: when the key starts signing (may be in the future while it is pre-published)
+ * - retiredAt: when its successor takes over; null for the newest key
+ */
+@Entity
+@Table(name = "signing_keys")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SigningKey {
+
+    @Id
+    private String kid;
+
+    @Column(nullable = false)
+    private String algorithm;
+
+    @Column(nullable = false)
+    private String publicKey;
+
+    @Column(nullable = false)
+    private String privateKey;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    private Instant activatedAt;
+
+    private Instant retiredAt;
+}
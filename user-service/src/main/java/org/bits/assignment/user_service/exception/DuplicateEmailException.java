@@ -0,0 +1,11 @@
+package org.bits.assignment.user_service.exception;
+
+/**
+ * Thrown when signing up with an email that is already registered.
+ * Mapped to 409 Conflict.
+ */
+public class DuplicateEmailException extends RuntimeException {
+    public DuplicateEmailException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,44 @@
+package org.bits.assignment.user_service.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Maps service exceptions to HTTP responses:
+ * - ServiceBusyException      -> 503 with Retry-After
+ * - TooManyAttemptsException  -> 429 with Retry-After
+ * - DuplicateEmailException   -> 409
+ * - IllegalArgumentException and malformed JSON -> 400
+ */
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    private static final String BUSY_RETRY_AFTER_SECONDS = "1";
+
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<?> handle(ServiceBusyException ex) {
+        return ResponseEntity.status(503)
+                .header(HttpHeaders.RETRY_AFTER, BUSY_RETRY_AFTER_SECONDS)
+                .body(ex.getMessage());
+    }
+
+    @ExceptionHandler(TooManyAttemptsException.class)
+    public ResponseEntity<?> handle(TooManyAttemptsException ex) {
+        return ResponseEntity.status(429)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .body(ex.getMessage());
+    }
+
+    @ExceptionHandler(DuplicateEmailException.class)
+    public ResponseEntity<?> handle(DuplicateEmailException ex) {
+        return ResponseEntity.status(409).body(ex.getMessage());
+    }
+
+    @ExceptionHandler({IllegalArgumentException.class, JsonProcessingException.class})
+    public ResponseEntity<?> handleBadInput(Exception ex) {
+        return ResponseEntity.status(400).body(ex.getMessage());
+    }
+}
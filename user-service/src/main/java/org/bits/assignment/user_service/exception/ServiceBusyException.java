@@ -0,0 +1,11 @@
+package org.bits.assignment.user_service.exception;
+
+/**
+ * Thrown when a bounded resource (such as the password hashing pool) is saturated.
+ * Mapped to 503 Service Unavailable.
+ */
+public class ServiceBusyException extends RuntimeException {
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,19 @@
+package org.bits.assignment.user_service.exception;
+
+/**
+ * Thrown when a client has exceeded its allowed login failures.
+ * Mapped to 429 Too Many Requests with a Retry-After header.
+ */
+public class TooManyAttemptsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyAttemptsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,25 @@
+package org.bits.assignment.user_service.repository;
+
+import org.bits.assignment.user_service.entity.SigningKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for SigningKey entities.
+ */
+@Repository
+public interface SigningKeyRepository extends JpaRepository<SigningKey, String> {
+    List<SigningKey> findAllByOrderByActivatedAtAsc();
+
+    /**
+     * Locks the table against other writers until the transaction ends, so only one replica
+     * rotates at a time. A row lock would not do: with no keys yet there is no row to lock.
+     */
+    @Modifying
+    @Query(value = "LOCK TABLE signing_keys IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockForRotation();
+}
@@ -1,8 +1,12 @@
 package org.bits.assignment.user_service.repository;
 
 import org.bits.assignment.user_service.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,6 +18,52 @@ import java.util.Optional;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
-    List<User> findByNameContainingIgnoreCaseOrEmailContainingIgnoreCase(String name, String email);
-    List<User> findByRole(String role);
+    List<User> findAllByOrderByIdAsc(Pageable pageable);
+    List<User> findByRoleOrderByIdAsc(String role, Pageable pageable);
+
+    /**
+     * One page of users whose lower-cased name or email matches a LIKE pattern,
+     * optionally restricted to a role. Served by the trigram indexes from V3 when the
+     * pattern holds at least three characters, otherwise by a scan in id order.
+     */
+    @Query(value = "SELECT * FROM users "
+            + "WHERE (lower(name) LIKE :pattern OR lower(email) LIKE :pattern) "
+            + "AND (CAST(:role AS VARCHAR) IS NULL OR role = :role) "
+            + "ORDER BY id LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<User> searchByText(@Param("pattern") String pattern,
+                            @Param("role") String role,
+                            @Param("limit") int limit,
+                            @Param("offset") long offset);
+
+    /**
+     * Number of users matching searchByText, counting no further than cap.
+     */
+    @Query(value = "SELECT count(*) FROM (SELECT 1 FROM users "
+            + "WHERE (lower(name) LIKE :pattern OR lower(email) LIKE :pattern) "
+            + "AND (CAST(:role AS VARCHAR) IS NULL OR role = :role) "
+            + "LIMIT :cap) matched", nativeQuery = true)
+    long countByText(@Param("pattern") String pattern, @Param("role") String role, @Param("cap") int cap);
+
+    /**
+     * Number of users with the role (all users when role is null), counting no further than cap.
+     */
+    @Query(value = "SELECT count(*) FROM (SELECT 1 FROM users "
+            + "WHERE CAST(:role AS VARCHAR) IS NULL OR role = :role LIMIT :cap) matched", nativeQuery = true)
+    long countByRole(@Param("role") String role, @Param("cap") int cap);
+
+    /**
+     * Inserts a user in one statement unless the email is already registered.
+     * The unique constraint decides, so concurrent signups cannot both succeed.
+     *
+     * @return the new user's id, or empty if the email is taken
+     */
+    @Transactional
+    @Query(value = "INSERT INTO users (name, email, password, role, status) "
+            + "VALUES (:name, :email, :password, :role, :status) "
+            + "ON CONFLICT (email) DO NOTHING RETURNING id", nativeQuery = true)
+    Optional<Long> insertIfEmailAbsent(@Param("name") String name,
+                                       @Param("email") String email,
+                                       @Param("password") String password,
+                                       @Param("role") String role,
+                                       @Param("status") String status);
 }
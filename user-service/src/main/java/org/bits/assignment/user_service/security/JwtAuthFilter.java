@@ -4,6 +4,8 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.bits.assignment.user_service.service.TokenValidationService;
+import org.bits.assignment.user_service.service.TokenValidationService.UserView;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -12,19 +14,23 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Servlet filter that validates JWT tokens on incoming requests.
  * If a valid token is present in the Authorization header (Bearer ...),
  * the filter sets the Spring Security Authentication with the extracted email and role.
+ * Each token is parsed and verified once, and the result is reused through TokenValidationCache.
+ * The user's current status and role come from TokenValidationService, so a suspended
+ * user's tokens stop authenticating without waiting for them to expire.
  */
 @Component
 public class JwtAuthFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
+    private final TokenValidationService tokenValidationService;
 
-    public JwtAuthFilter(JwtUtil jwtUtil) {
-        this.jwtUtil = jwtUtil;
+    public JwtAuthFilter(TokenValidationService tokenValidationService) {
+        this.tokenValidationService = tokenValidationService;
     }
 
     @Override
@@ -36,14 +42,13 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         String authHeader = request.getHeader("Authorization");
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
-            if (jwtUtil.isTokenValid(token)) {
-                String email = jwtUtil.extractEmail(token);
-                String role = jwtUtil.extractRole(token);
-
+            // Invalid or expired tokens and inactive users: the request continues unauthenticated
+            Optional<UserView> user = tokenValidationService.validate(token);
+            if (user.isPresent() && user.get().isActive() && user.get().role() != null) {
                 var auth = new UsernamePasswordAuthenticationToken(
-                        email,
+                        user.get().email(),
                         null,
-                        List.of(new SimpleGrantedAuthority("ROLE_" + role)) // Spring requires ROLE_ prefix
+                        List.of(new SimpleGrantedAuthority("ROLE_" + user.get().role())) // Spring requires ROLE_ prefix
                 );
                 SecurityContextHolder.getContext().setAuthentication(auth);
             }
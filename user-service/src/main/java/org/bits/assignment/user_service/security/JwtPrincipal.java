@@ -0,0 +1,9 @@
+package org.bits.assignment.user_service.security;
+
+import java.time.Instant;
+
+/**
+ * Identity resolved from a verified JWT: subject (email), role claim and expiry.
+ */
+public record JwtPrincipal(String email, String role, Instant expiresAt) {
+}
@@ -1,58 +1,62 @@
 package org.bits.assignment.user_service.security;
 
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
 import java.util.Date;
 
 /**
  * Utility component for creating and validating JWT tokens.
- * - generateToken(email, role) creates a signed token with expiration.
- * - extractClaims / extractEmail / extractRole parse and return token claims.
- * - isTokenValid verifies token integrity and expiry.
+ * - generateToken(email, role) creates an RS256-signed token with expiration and a kid header.
+ * - parse verifies a token once and returns its principal; extractClaims returns the raw claims.
  *
- * Uses io.jsonwebtoken (jjwt) and an in-memory signing key.
+ * Uses io.jsonwebtoken (jjwt) with the persisted, rotating keyset from SigningKeyService.
+ * The parser is built once and shared; jjwt parsers are immutable and thread-safe, and the
+ * key resolver sees keyset rotations as they happen.
  */
 @Component
 public class JwtUtil {
 
-    private final Key SECRET_KEY = Keys.secretKeyFor(SignatureAlgorithm.HS512);
-    private final long expiration = 3600000; // 1 hour
+    private final SigningKeyService signingKeyService;
+    private final JwtParser parser;
+    private final long expiration;
+
+    public JwtUtil(SigningKeyService signingKeyService,
+                   @Value("${jwt.expiration:3600000}") long expiration) {
+        this.signingKeyService = signingKeyService;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(signingKeyService)
+                .build();
+        this.expiration = expiration;
+    }
 
     public String generateToken(String email, String role) {
+        SigningKeyService.ActiveKey key = signingKeyService.signingKey();
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, key.kid())
                 .setSubject(email)
                 .claim("role", role)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(SECRET_KEY)
+                .signWith(key.privateKey(), SignatureAlgorithm.RS256)
                 .compact();
     }
 
     public Claims extractClaims(String token) throws JwtException {
-        return Jwts.parserBuilder()
-                .setSigningKey(SECRET_KEY)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    public String extractEmail(String token) {
-        return extractClaims(token).getSubject();
-    }
-
-    public String extractRole(String token) {
-        return extractClaims(token).get("role", String.class);
+        return parser.parseClaimsJws(token).getBody();
     }
 
-    public boolean isTokenValid(String token) {
-        try {
-            extractClaims(token);
-            return true;
-        } catch (JwtException e) {
-            return false;
-        }
+    /**
+     * Verifies the token's signature and expiry once and returns everything a request needs from it.
+     *
+     * @throws JwtException             if the token is malformed, expired or wrongly signed
+     * @throws IllegalArgumentException if the token is empty
+     */
+    public JwtPrincipal parse(String token) throws JwtException {
+        Claims claims = extractClaims(token);
+        Date expiration = claims.getExpiration();
+        return new JwtPrincipal(claims.getSubject(), claims.get("role", String.class),
+                expiration != null ? expiration.toInstant() : null);
     }
 }
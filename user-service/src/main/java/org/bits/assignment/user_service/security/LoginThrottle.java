@@ -0,0 +1,99 @@
+package org.bits.assignment.user_service.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.bits.assignment.user_service.exception.TooManyAttemptsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts failed logins per email and per client address in fixed windows.
+ *
+ * Every attempt reserves a failure up front, before any password hash is
+ * computed, and is refused with a TooManyAttemptsException (429) if that takes
+ * either count over its limit; concurrent guesses therefore cannot all pass a
+ * check made before the first of them fails, and refused guessing costs no CPU.
+ * A successful login clears the email's count and hands the address its
+ * reservation back. A window starts at the first attempt and lasts the
+ * configured duration.
+ */
+@Component
+public class LoginThrottle {
+
+    private final Cache<String, AtomicInteger> failuresByEmail;
+    private final Cache<String, AtomicInteger> failuresByAddress;
+    private final int maxFailuresPerEmail;
+    private final int maxFailuresPerAddress;
+    private final long windowSeconds;
+
+    public LoginThrottle(@Value("${security.login-throttle.window-seconds:300}") long windowSeconds,
+                         @Value("${security.login-throttle.max-failures-per-email:5}") int maxFailuresPerEmail,
+                         @Value("${security.login-throttle.max-failures-per-ip:50}") int maxFailuresPerAddress,
+                         @Value("${security.login-throttle.max-tracked-keys:100000}") long maxTrackedKeys) {
+        this.windowSeconds = windowSeconds;
+        this.maxFailuresPerEmail = maxFailuresPerEmail;
+        this.maxFailuresPerAddress = maxFailuresPerAddress;
+        // Counters are mutated in place, so entries expire a full window after their first failure
+        this.failuresByEmail = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(windowSeconds))
+                .maximumSize(maxTrackedKeys)
+                .build();
+        this.failuresByAddress = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(windowSeconds))
+                .maximumSize(maxTrackedKeys)
+                .build();
+    }
+
+    /**
+     * Counts an attempt as failed until it is known to have succeeded; throws, reserving
+     * nothing, if either the email or the client address has used up its failures for the window.
+     */
+    public void reserveAttempt(String email, String clientAddress) {
+        String key = normalize(email);
+        int byEmail = increment(failuresByEmail, key);
+        int byAddress = increment(failuresByAddress, clientAddress);
+        if (byEmail > maxFailuresPerEmail || byAddress > maxFailuresPerAddress) {
+            release(key, clientAddress);
+            throw new TooManyAttemptsException("Too many failed login attempts, please try again later", windowSeconds);
+        }
+    }
+
+    /**
+     * Returns a reservation for an attempt that was not decided, e.g. because hashing was refused.
+     */
+    public void releaseAttempt(String email, String clientAddress) {
+        release(normalize(email), clientAddress);
+    }
+
+    public void recordSuccess(String email, String clientAddress) {
+        String key = normalize(email);
+        if (key != null) {
+            failuresByEmail.invalidate(key);
+        }
+        decrement(failuresByAddress, clientAddress);
+    }
+
+    private void release(String key, String clientAddress) {
+        decrement(failuresByEmail, key);
+        decrement(failuresByAddress, clientAddress);
+    }
+
+    private static int increment(Cache<String, AtomicInteger> failures, String key) {
+        return key == null ? 0 : failures.get(key, k -> new AtomicInteger()).incrementAndGet();
+    }
+
+    private static void decrement(Cache<String, AtomicInteger> failures, String key) {
+        AtomicInteger count = key == null ? null : failures.getIfPresent(key);
+        if (count != null) {
+            count.updateAndGet(value -> Math.max(value - 1, 0));
+        }
+    }
+
+    private static String normalize(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
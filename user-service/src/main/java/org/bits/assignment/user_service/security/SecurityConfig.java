@@ -4,9 +4,15 @@ package org.bits.assignment.user_service.security;
  * Spring Security configuration:
  * - Disables CSRF for API usage.
  * - Permits /api/auth/** endpoints to be accessed without authentication.
+ * - Permits /actuator/health and /actuator/prometheus for probes and metrics scraping.
  * - Requires ADMIN role for /api/users/** endpoints.
  * - Registers JwtAuthFilter before UsernamePasswordAuthenticationFilter.
+ * - Serves GET /api/auth/validate from TokenValidationFilter, ahead of the security chain.
  */
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.bits.assignment.user_service.service.TokenValidationService;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -29,11 +35,22 @@ public class SecurityConfig {
         return new BCryptPasswordEncoder();
     }
 
+    @Bean
+    public FilterRegistrationBean<TokenValidationFilter> tokenValidationFilter(TokenValidationService tokenValidationService,
+                                                                               ObjectMapper objectMapper) {
+        FilterRegistrationBean<TokenValidationFilter> registration =
+                new FilterRegistrationBean<>(new TokenValidationFilter(tokenValidationService, objectMapper));
+        registration.addUrlPatterns("/api/auth/validate");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http.csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/**").permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                         .requestMatchers("/api/users/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
@@ -0,0 +1,256 @@
+package org.bits.assignment.user_service.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
+import org.bits.assignment.user_service.entity.SigningKey;
+import org.bits.assignment.user_service.repository.SigningKeyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.SecureRandom;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Manages the RS256 keyset used to sign and verify JWTs.
+ *
+ * Keys live in the signing_keys table so every replica signs with the same key and
+ * tokens survive restarts. Each replica reloads the keyset on a schedule and, when the
+ * newest key is due, one of them (serialized by a table lock) creates a successor. The
+ * successor is published ahead of its activation so verifiers fetch it before the
+ * first token signed with it, and the retired key stays published until every token
+ * it signed has expired.
+ *
+ * Also acts as the jjwt key resolver, picking the verification key by the token's kid.
+ */
+@Component
+public class SigningKeyService extends SigningKeyResolverAdapter {
+
+    private static final Logger log = LoggerFactory.getLogger(SigningKeyService.class);
+
+    private static final String ALGORITHM = "RS256";
+    private static final int RSA_KEY_BITS = 2048;
+    private static final int GCM_IV_BYTES = 12;
+    private static final int GCM_TAG_BITS = 128;
+    private static final Duration CLOCK_SKEW = Duration.ofMinutes(5);
+
+    private final SigningKeyRepository signingKeyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SecretKey keyEncryptionKey;
+    private final Duration rotationInterval;
+    private final Duration prepublishPeriod;
+    private final Duration tokenLifetime;
+    private final SecureRandom random = new SecureRandom();
+
+    private volatile Keyset keyset = new Keyset(null, Map.of());
+
+    /**
+     * The key currently used for signing.
+     */
+    public record ActiveKey(String kid, PrivateKey privateKey) {}
+
+    private record Keyset(ActiveKey signingKey, Map<String, RSAPublicKey> publicKeys) {}
+
+    public SigningKeyService(SigningKeyRepository signingKeyRepository,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${jwt.secret}") String keyEncryptionSecret,
+                             @Value("${jwt.keys.rotation-interval-hours:720}") long rotationIntervalHours,
+                             @Value("${jwt.keys.prepublish-minutes:15}") long prepublishMinutes,
+                             @Value("${jwt.expiration:3600000}") long tokenLifetimeMs) {
+        this.signingKeyRepository = signingKeyRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.keyEncryptionKey = deriveKeyEncryptionKey(keyEncryptionSecret);
+        this.rotationInterval = Duration.ofHours(rotationIntervalHours);
+        this.prepublishPeriod = Duration.ofMinutes(prepublishMinutes);
+        this.tokenLifetime = Duration.ofMillis(tokenLifetimeMs);
+    }
+
+    @PostConstruct
+    public void init() {
+        refresh();
+    }
+
+    /**
+     * Rotates the keyset if due, prunes keys no token can still use, and reloads the local copy.
+     */
+    @Scheduled(fixedDelayString = "${jwt.keys.refresh-interval-ms:60000}",
+            initialDelayString = "${jwt.keys.refresh-interval-ms:60000}")
+    public void refresh() {
+        refresh(Instant.now());
+    }
+
+    void refresh(Instant now) {
+        transactionTemplate.executeWithoutResult(status -> rotateIfDue(now));
+        keyset = load(now);
+    }
+
+    public ActiveKey signingKey() {
+        ActiveKey signingKey = keyset.signingKey();
+        if (signingKey == null) {
+            throw new IllegalStateException("No active JWT signing key");
+        }
+        return signingKey;
+    }
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        RSAPublicKey key = header.getKeyId() != null ? keyset.publicKeys().get(header.getKeyId()) : null;
+        if (key == null) {
+            throw new SignatureException("Unknown JWT signing key id: " + header.getKeyId());
+        }
+        return key;
+    }
+
+    /**
+     * Public keys in JSON Web Key Set format, including keys that are pre-published
+     * or retired but may still verify unexpired tokens.
+     */
+    public Map<String, Object> jwks() {
+        List<Map<String, String>> keys = new ArrayList<>();
+        keyset.publicKeys().forEach((kid, key) -> {
+            Map<String, String> jwk = new LinkedHashMap<>();
+            jwk.put("kty", "RSA");
+            jwk.put("kid", kid);
+            jwk.put("use", "sig");
+            jwk.put("alg", ALGORITHM);
+            jwk.put("n", base64UrlUnsigned(key.getModulus()));
+            jwk.put("e", base64UrlUnsigned(key.getPublicExponent()));
+            keys.add(jwk);
+        });
+        return Map.of("keys", keys);
+    }
+
+    private void rotateIfDue(Instant now) {
+        // Lock first, then re-read: another replica may have rotated while we waited
+        signingKeyRepository.lockForRotation();
+        List<SigningKey> keys = signingKeyRepository.findAllByOrderByActivatedAtAsc();
+
+        if (keys.isEmpty()) {
+            signingKeyRepository.save(generate(now, now));
+            log.info("Created initial JWT signing key");
+            return;
+        }
+
+        SigningKey newest = keys.get(keys.size() - 1);
+        if (!newest.getActivatedAt().isAfter(now)
+                && !newest.getActivatedAt().plus(rotationInterval).isAfter(now.plus(prepublishPeriod))) {
+            SigningKey successor = generate(now, now.plus(prepublishPeriod));
+            newest.setRetiredAt(successor.getActivatedAt());
+            signingKeyRepository.save(newest);
+            signingKeyRepository.save(successor);
+            log.info("Pre-published JWT signing key {} to replace {} at {}",
+                    successor.getKid(), newest.getKid(), successor.getActivatedAt());
+        }
+
+        for (SigningKey key : keys) {
+            if (key.getRetiredAt() != null && key.getRetiredAt().plus(tokenLifetime).plus(CLOCK_SKEW).isBefore(now)) {
+                signingKeyRepository.delete(key);
+            }
+        }
+    }
+
+    private Keyset load(Instant now) {
+        ActiveKey signingKey = null;
+        Map<String, RSAPublicKey> publicKeys = new LinkedHashMap<>();
+        for (SigningKey key : signingKeyRepository.findAllByOrderByActivatedAtAsc()) {
+            try {
+                publicKeys.put(key.getKid(), decodePublicKey(key.getPublicKey()));
+                if (!key.getActivatedAt().isAfter(now)) {
+                    signingKey = new ActiveKey(key.getKid(), decryptPrivateKey(key.getPrivateKey()));
+                }
+            } catch (GeneralSecurityException e) {
+                log.error("Skipping unreadable JWT signing key {}", key.getKid(), e);
+            }
+        }
+        return new Keyset(signingKey, Map.copyOf(publicKeys));
+    }
+
+    private SigningKey generate(Instant now, Instant activatedAt) {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(RSA_KEY_BITS, random);
+            KeyPair pair = generator.generateKeyPair();
+            return SigningKey.builder()
+                    .kid(UUID.randomUUID().toString())
+                    .algorithm(ALGORITHM)
+                    .publicKey(Base64.getEncoder().encodeToString(pair.getPublic().getEncoded()))
+                    .privateKey(encryptPrivateKey(pair.getPrivate()))
+                    .createdAt(now)
+                    .activatedAt(activatedAt)
+                    .build();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not generate JWT signing key", e);
+        }
+    }
+
+    private static RSAPublicKey decodePublicKey(String encoded) throws GeneralSecurityException {
+        byte[] der = Base64.getDecoder().decode(encoded);
+        return (RSAPublicKey) KeyFactory.getInstance("RSA").generatePublic(new X509EncodedKeySpec(der));
+    }
+
+    private String encryptPrivateKey(PrivateKey privateKey) throws GeneralSecurityException {
+        byte[] iv = new byte[GCM_IV_BYTES];
+        random.nextBytes(iv);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, keyEncryptionKey, new GCMParameterSpec(GCM_TAG_BITS, iv));
+        byte[] ciphertext = cipher.doFinal(privateKey.getEncoded());
+        return Base64.getEncoder().encodeToString(ByteBuffer.allocate(iv.length + ciphertext.length)
+                .put(iv).put(ciphertext).array());
+    }
+
+    private PrivateKey decryptPrivateKey(String encoded) throws GeneralSecurityException {
+        byte[] sealed = Base64.getDecoder().decode(encoded);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.DECRYPT_MODE, keyEncryptionKey, new GCMParameterSpec(GCM_TAG_BITS, sealed, 0, GCM_IV_BYTES));
+        byte[] der = cipher.doFinal(sealed, GCM_IV_BYTES, sealed.length - GCM_IV_BYTES);
+        return KeyFactory.getInstance("RSA").generatePrivate(new PKCS8EncodedKeySpec(der));
+    }
+
+    private static SecretKey deriveKeyEncryptionKey(String secret) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+            return new SecretKeySpec(digest, "AES");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String base64UrlUnsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
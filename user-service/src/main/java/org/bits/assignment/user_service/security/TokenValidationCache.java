@@ -0,0 +1,122 @@
+package org.bits.assignment.user_service.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verifies JWTs once and remembers the resolved principal for a short while.
+ *
+ * Entries are keyed by a SHA-256 hash of the token so raw credentials are never held
+ * as map keys, and live until the token expires or the configured TTL passes, whichever
+ * comes first. Hit and miss counts are published as {@code cache.*} metrics tagged
+ * {@code cache=jwtTokenCache}, and each signature check is timed as
+ * {@code security.jwt.verify} tagged by outcome.
+ */
+@Component
+public class TokenValidationCache {
+
+    private final JwtUtil jwtUtil;
+    private final Cache<String, JwtPrincipal> cache;
+    private final Timer verifySuccess;
+    private final Timer verifyFailure;
+
+    public TokenValidationCache(JwtUtil jwtUtil,
+                                @Value("${security.token-cache.max-size:100000}") long maxSize,
+                                @Value("${security.token-cache.ttl-seconds:300}") long ttlSeconds,
+                                MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilTokenExpiry(Duration.ofSeconds(ttlSeconds)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwtTokenCache");
+        this.verifySuccess = verifyTimer(meterRegistry, "success");
+        this.verifyFailure = verifyTimer(meterRegistry, "failure");
+    }
+
+    /**
+     * Returns the principal for a token, verifying its signature only on a cache miss.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, expired or wrongly signed
+     * @throws IllegalArgumentException     if the token is empty
+     */
+    public JwtPrincipal resolve(String token) {
+        String key = hash(token);
+        JwtPrincipal cached = cache.getIfPresent(key);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            return cached;
+        }
+
+        JwtPrincipal principal;
+        long start = System.nanoTime();
+        try {
+            principal = jwtUtil.parse(token);
+            verifySuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        } catch (RuntimeException e) {
+            verifyFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+
+        // Tokens without an exp claim are verified every time rather than cached
+        if (principal.expiresAt() != null) {
+            cache.put(key, principal);
+        }
+        return principal;
+    }
+
+    private static Timer verifyTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("security.jwt.verify")
+                .description("JWT signature verification on token cache misses")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<String, JwtPrincipal> {
+
+        private final long maxNanos;
+
+        UntilTokenExpiry(Duration ttl) {
+            this.maxNanos = ttl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String key, JwtPrincipal value, long currentTime) {
+            long untilExpiry = Duration.between(Instant.now(), value.expiresAt()).toNanos();
+            return Math.max(0, Math.min(maxNanos, untilExpiry));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtPrincipal value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtPrincipal value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
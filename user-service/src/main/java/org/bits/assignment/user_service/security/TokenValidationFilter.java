@@ -0,0 +1,70 @@
+package org.bits.assignment.user_service.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.bits.assignment.user_service.service.TokenValidationService;
+import org.bits.assignment.user_service.service.TokenValidationService.UserView;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Serves GET /api/auth/validate directly from the servlet filter chain.
+ *
+ * Registered ahead of Spring Security (the endpoint is public) and answers without
+ * reaching the DispatcherServlet, so a validation costs two cache lookups and one
+ * JSON write. The token is taken from the Authorization header, with or without the
+ * "Bearer " prefix. Responds 200 with {id, email, role, status} for an active user,
+ * otherwise 401.
+ */
+public class TokenValidationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final TokenValidationService tokenValidationService;
+    private final ObjectWriter writer;
+
+    public TokenValidationFilter(TokenValidationService tokenValidationService, ObjectMapper objectMapper) {
+        this.tokenValidationService = tokenValidationService;
+        this.writer = objectMapper.writerFor(UserView.class);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || header.isBlank()) {
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Missing token");
+            return;
+        }
+        String token = header.startsWith(BEARER_PREFIX) ? header.substring(BEARER_PREFIX.length()) : header;
+
+        Optional<UserView> user = tokenValidationService.validate(token.trim());
+        if (user.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid token");
+            return;
+        }
+        if (!user.get().isActive()) {
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "User is not active");
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        writer.writeValue(response.getOutputStream(), user.get());
+    }
+}
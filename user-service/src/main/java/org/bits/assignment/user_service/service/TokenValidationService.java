@@ -0,0 +1,86 @@
+package org.bits.assignment.user_service.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.JwtException;
+import org.bits.assignment.user_service.entity.User;
+import org.bits.assignment.user_service.repository.UserRepository;
+import org.bits.assignment.user_service.security.JwtPrincipal;
+import org.bits.assignment.user_service.security.TokenValidationCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Resolves a bearer token to the current state of its user, for /api/auth/validate
+ * and JwtAuthFilter.
+ *
+ * Two caches keep the common case free of crypto and database work:
+ * - verified tokens, through TokenValidationCache
+ * - user views by email, refreshed by updateStatus so a suspension takes effect at once
+ *   on the replica that handled it
+ * Other replicas only see the change once their entry expires
+ * (auth.validate.user-cache-ttl-seconds), which bounds how long a suspended user keeps access.
+ */
+@Service
+public class TokenValidationService {
+
+    /**
+     * The fields returned by /api/auth/validate.
+     */
+    public record UserView(Long id, String email, String role, String status) {
+        public boolean isActive() {
+            return "active".equalsIgnoreCase(status);
+        }
+    }
+
+    private final TokenValidationCache tokenValidationCache;
+    private final UserRepository userRepository;
+    private final Cache<String, UserView> users;
+
+    public TokenValidationService(TokenValidationCache tokenValidationCache,
+                                  UserRepository userRepository,
+                                  @Value("${auth.validate.user-cache-size:50000}") long userCacheSize,
+                                  @Value("${auth.validate.user-cache-ttl-seconds:60}") long userCacheTtlSeconds) {
+        this.tokenValidationCache = tokenValidationCache;
+        this.userRepository = userRepository;
+        this.users = Caffeine.newBuilder()
+                .maximumSize(userCacheSize)
+                .expireAfterWrite(Duration.ofSeconds(userCacheTtlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * @return the token's user, or empty if the token is invalid, expired or its user no longer exists
+     */
+    public Optional<UserView> validate(String token) {
+        JwtPrincipal principal;
+        try {
+            principal = tokenValidationCache.resolve(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (principal.expiresAt() == null || principal.email() == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(users.get(principal.email(), this::loadUser));
+    }
+
+    /**
+     * Replaces the cached view of a user after its record changed.
+     */
+    public void userChanged(User user) {
+        users.put(user.getEmail(), toView(user));
+    }
+
+    private UserView loadUser(String email) {
+        return userRepository.findByEmail(email).map(TokenValidationService::toView).orElse(null);
+    }
+
+    private static UserView toView(User user) {
+        return new UserView(user.getId(), user.getEmail(), user.getRole(), user.getStatus());
+    }
+}
@@ -0,0 +1,236 @@
+package org.bits.assignment.user_service.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.bits.assignment.user_service.security.PasswordHashingService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bulk user provisioning for onboarding whole cohorts.
+ *
+ * Input (JSON array or CSV with a header row) is read as a stream and handled in chunks:
+ * passwords of a chunk are hashed in parallel on the PasswordHashingService pool, then
+ * the rows are written with one JDBC batch of INSERT ... ON CONFLICT (email) DO NOTHING.
+ * Emails that already exist are reported as duplicates rather than failing the chunk.
+ */
+@Service
+public class UserProvisioningService {
+
+    private static final String INSERT_SQL = "INSERT INTO users (name, email, password, role, status) "
+            + "VALUES (?, ?, ?, ?, ?) ON CONFLICT (email) DO NOTHING";
+    private static final Set<String> ROLES = Set.of("STUDENT", "STAFF", "ADMIN");
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final PasswordHashingService passwordHashingService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public UserProvisioningService(PasswordHashingService passwordHashingService,
+                                   JdbcTemplate jdbcTemplate,
+                                   TransactionTemplate transactionTemplate,
+                                   ObjectMapper objectMapper,
+                                   @Value("${users.provisioning.chunk-size:500}") int chunkSize) {
+        this.passwordHashingService = passwordHashingService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    public record ProvisionRequest(String name, String email, String password, String role, String status) {}
+
+    public record ProvisioningResult(int created, int duplicates, int rejected, List<String> errors, long elapsedMs) {}
+
+    public ProvisioningResult provisionJson(InputStream in) throws IOException {
+        Run run = new Run();
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Expected a JSON array of users");
+            }
+            int row = 0;
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                run.accept(++row, objectMapper.readValue(parser, ProvisionRequest.class));
+            }
+        }
+        return run.finish();
+    }
+
+    public ProvisioningResult provisionCsv(InputStream in) throws IOException {
+        Run run = new Run();
+        try (Reader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            List<String> header = readCsvRecord(reader);
+            if (header == null) {
+                throw new IllegalArgumentException("CSV input is empty");
+            }
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            int row = 0;
+            for (List<String> record = readCsvRecord(reader); record != null; record = readCsvRecord(reader)) {
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+                run.accept(++row, new ProvisionRequest(cell(record, columns, "name"), cell(record, columns, "email"),
+                        cell(record, columns, "password"), cell(record, columns, "role"), cell(record, columns, "status")));
+            }
+        }
+        return run.finish();
+    }
+
+    private static String cell(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Reads one CSV record (RFC 4180 quoting), or returns null at end of input.
+     */
+    private static List<String> readCsvRecord(Reader reader) throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean any = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            any = true;
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+        if (!any) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * State of one provisioning call.
+     */
+    private class Run {
+        private final long startNanos = System.nanoTime();
+        private final List<String> errors = new ArrayList<>();
+        private final Set<String> seenEmails = new HashSet<>();
+        private List<ProvisionRequest> pending = new ArrayList<>(chunkSize);
+        private int created;
+        private int duplicates;
+        private int rejected;
+
+        void accept(int row, ProvisionRequest request) {
+            String problem = validate(request);
+            if (problem != null) {
+                rejected++;
+                error("Row " + row + ": " + problem);
+                return;
+            }
+            if (!seenEmails.add(request.email())) {
+                duplicates++;
+                error("Row " + row + ": " + request.email() + " appears earlier in this upload");
+                return;
+            }
+            pending.add(request);
+            if (pending.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        ProvisioningResult finish() {
+            flush();
+            return new ProvisioningResult(created, duplicates, rejected, errors,
+                    (System.nanoTime() - startNanos) / 1_000_000);
+        }
+
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<ProvisionRequest> chunk = pending;
+            pending = new ArrayList<>(chunkSize);
+
+            // Hash outside the transaction so no connection is held while the CPU works
+            List<String> hashes = passwordHashingService.encodeAll(chunk.stream().map(ProvisionRequest::password).toList());
+            List<Object[]> rows = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                ProvisionRequest request = chunk.get(i);
+                rows.add(new Object[]{request.name(), request.email(), hashes.get(i),
+                        request.role().toUpperCase(Locale.ROOT),
+                        request.status() != null ? request.status() : "active"});
+            }
+            int[] counts = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(INSERT_SQL, rows));
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] == 0) {
+                    duplicates++;
+                    error(chunk.get(i).email() + " is already registered");
+                } else {
+                    created++;
+                }
+            }
+        }
+
+        private void error(String message) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(message);
+            }
+        }
+
+        private String validate(ProvisionRequest request) {
+            if (request.name() == null || request.name().isBlank()) {
+                return "name is required";
+            }
+            if (request.email() == null || !request.email().contains("@")) {
+                return "a valid email is required";
+            }
+            if (request.password() == null || request.password().isEmpty()) {
+                return "password is required";
+            }
+            if (request.role() == null || !ROLES.contains(request.role().toUpperCase(Locale.ROOT))) {
+                return "role must be one of " + ROLES;
+            }
+            return null;
+        }
+    }
+}
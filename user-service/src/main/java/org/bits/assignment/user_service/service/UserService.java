@@ -1,21 +1,26 @@
 package org.bits.assignment.user_service.service;
 
 import org.bits.assignment.user_service.entity.User;
+import org.bits.assignment.user_service.exception.DuplicateEmailException;
 import org.bits.assignment.user_service.repository.UserRepository;
+import org.bits.assignment.user_service.security.LoginThrottle;
+import org.bits.assignment.user_service.security.PasswordHashingService;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * Service layer for user operations:
  * - signup, login, forgot password (dummy)
  * - user listing, searching and status updates
  *
- * Uses UserRepository for persistence and PasswordEncoder for secure password handling.
+ * Uses UserRepository for persistence and PasswordHashingService for secure password handling.
+ * Logins are throttled per email and client address by LoginThrottle.
  */
 @Service
 public class UserService {
@@ -24,21 +29,48 @@ public class UserService {
     private UserRepository userRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
-    // Signup
-    public User signup(User user) throws Exception {
-        if (userRepository.findByEmail(user.getEmail()).isPresent()) {
-            throw new Exception("Email already exists");
-        }
-        user.setPassword(passwordEncoder.encode(user.getPassword()));
-        return userRepository.save(user);
+    @Autowired
+    private LoginThrottle loginThrottle;
+
+    @Autowired
+    private TokenValidationService tokenValidationService;
+
+    @Value("${users.search.default-page-size:50}")
+    private int defaultSearchPageSize;
+
+    @Value("${users.search.max-page-size:200}")
+    private int maxSearchPageSize;
+
+    @Value("${users.search.count-cap:1000}")
+    private int searchCountCap;
+
+    // Signup: a single INSERT ... ON CONFLICT, so duplicates are detected without a pre-read
+    public User signup(User user) {
+        user.setPassword(passwordHashingService.encode(user.getPassword()));
+        Long id = userRepository.insertIfEmailAbsent(user.getName(), user.getEmail(), user.getPassword(),
+                        user.getRole(), user.getStatus())
+                .orElseThrow(() -> new DuplicateEmailException("Email already exists"));
+        user.setId(id);
+        return user;
     }
 
-    // Login
-    public Optional<User> login(String email, String password) {
-        Optional<User> userOpt = userRepository.findByEmail(email);
-        if (userOpt.isPresent() && passwordEncoder.matches(password, userOpt.get().getPassword())) {
+    // Login; throttled clients are refused before any hash is computed
+    public Optional<User> login(String email, String password, String clientAddress) {
+        loginThrottle.reserveAttempt(email, clientAddress);
+        Optional<User> userOpt;
+        boolean matched;
+        try {
+            userOpt = userRepository.findByEmail(email);
+            matched = userOpt.isPresent() && passwordHashingService.matches(password, userOpt.get().getPassword());
+        } catch (RuntimeException e) {
+            // Busy or failing, not a wrong password
+            loginThrottle.releaseAttempt(email, clientAddress);
+            throw e;
+        }
+        if (matched) {
+            loginThrottle.recordSuccess(email, clientAddress);
             return userOpt;
         }
         return Optional.empty();
@@ -54,28 +86,57 @@ public class UserService {
     }
 
     // User management
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
+    /**
+     * One page of all users ordered by id; page size and count cap as for searchUsers.
+     */
+    public UserSearchResult listUsers(int page, Integer size) {
+        return searchUsers(null, null, page, size);
     }
 
-    public List<User> searchUsers(String query, String role) {
+    /**
+     * One page of users matching an optional name/email query and role, ordered by id.
+     *
+     * The query matches anywhere in the name or email. Queries shorter than three
+     * characters have no trigram to look up, so they scan users in id order until the
+     * page is full. The total is counted up to users.search.count-cap; that stops
+     * early for broad matches, but a rare short query still scans the whole table.
+     */
+    public UserSearchResult searchUsers(String query, String role, int page, Integer size) {
+        int pageSize = Math.min(Math.max(size != null ? size : defaultSearchPageSize, 1), maxSearchPageSize);
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), pageSize);
+        String roleFilter = role == null || role.isBlank() || role.equalsIgnoreCase("all")
+                ? null : role.toUpperCase(Locale.ROOT);
+        String text = query == null ? "" : query.trim().toLowerCase(Locale.ROOT);
+
         List<User> users;
-        if (query != null && !query.isEmpty()) {
-            users = userRepository.findByNameContainingIgnoreCaseOrEmailContainingIgnoreCase(query, query);
+        long total;
+        if (!text.isEmpty()) {
+            String escaped = text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+            String pattern = "%" + escaped + "%";
+            users = userRepository.searchByText(pattern, roleFilter, pageSize, pageRequest.getOffset());
+            total = userRepository.countByText(pattern, roleFilter, searchCountCap + 1);
         } else {
-            users = userRepository.findAll();
+            users = roleFilter != null
+                    ? userRepository.findByRoleOrderByIdAsc(roleFilter, pageRequest)
+                    : userRepository.findAllByOrderByIdAsc(pageRequest);
+            total = userRepository.countByRole(roleFilter, searchCountCap + 1);
         }
-
-        if (role != null && !role.equalsIgnoreCase("all")) {
-            users = users.stream().filter(u -> u.getRole().equalsIgnoreCase(role)).collect(Collectors.toList());
-        }
-        return users;
+        boolean capped = total > searchCountCap;
+        return new UserSearchResult(users, capped ? searchCountCap : total, capped);
     }
 
+    /**
+     * A page of search results. When totalCapped is set, at least total users match.
+     */
+    public record UserSearchResult(List<User> users, long total, boolean totalCapped) {}
+
     public User updateStatus(Long id, String status) throws Exception {
         User user = userRepository.findById(id).orElseThrow(() -> new Exception("User not found"));
         user.setStatus(status);
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        // Refresh the validation cache so a suspension revokes existing tokens at once
+        tokenValidationService.userChanged(saved);
+        return saved;
     }
 
     public boolean sendPasswordResetLink(String email) {
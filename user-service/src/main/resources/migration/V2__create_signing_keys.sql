@@ -0,0 +1,12 @@
+-- Signing keys for user JWTs (RS256). Every replica signs with the newest activated key
+-- and publishes all unexpired public keys at /api/auth/jwks.
+-- private_key holds the PKCS#8 key encrypted with AES-GCM under the configured jwt.secret.
+CREATE TABLE IF NOT EXISTS signing_keys (
+    kid VARCHAR(64) PRIMARY KEY,
+    algorithm VARCHAR(16) NOT NULL,
+    public_key TEXT NOT NULL,
+    private_key TEXT NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL,
+    activated_at TIMESTAMPTZ NOT NULL,
+    retired_at TIMESTAMPTZ
+);
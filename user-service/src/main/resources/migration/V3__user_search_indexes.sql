@@ -0,0 +1,9 @@
+-- Indexes for GET /api/users/search.
+-- Trigram GIN indexes serve substring matches (LIKE '%abc%') of three or more characters
+-- on the lower-cased name and email; shorter patterns have no trigram and scan the table.
+-- (role, id) serves role-filtered paging.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_users_name_trgm ON users USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_users_email_trgm ON users USING gin (lower(email) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_users_role_id ON users (role, id);
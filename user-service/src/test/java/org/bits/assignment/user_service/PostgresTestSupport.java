@@ -0,0 +1,40 @@
+package org.bits.assignment.user_service;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Points the application at an embedded PostgreSQL, started once per test JVM.
+ *
+ * The migrations and several queries (ON CONFLICT, RETURNING, pg_trgm) are
+ * PostgreSQL-specific, so tests run against the real database. Test classes share
+ * it, and so should pick unique emails rather than expect an empty users table.
+ * Scheduled key refreshes are pushed out of the way so tests own the signing_keys table.
+ */
+public abstract class PostgresTestSupport {
+
+    private static EmbeddedPostgres postgres;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> postgres().getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("jwt.keys.refresh-interval-ms", () -> Long.MAX_VALUE / 2);
+    }
+
+    private static synchronized EmbeddedPostgres postgres() {
+        if (postgres == null) {
+            try {
+                postgres = EmbeddedPostgres.start();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not start embedded PostgreSQL", e);
+            }
+        }
+        return postgres;
+    }
+}
@@ -0,0 +1,143 @@
+package org.bits.assignment.user_service.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.bits.assignment.user_service.PostgresTestSupport;
+import org.bits.assignment.user_service.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class AuthControllerTest extends PostgresTestSupport {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void signupRejectsAnEmailThatIsAlreadyRegistered() throws Exception {
+        String email = uniqueEmail();
+
+        signup(email).andExpect(status().isOk())
+                .andExpect(jsonPath("$.user.email").value(email))
+                .andExpect(jsonPath("$.user.password").doesNotExist());
+        signup(email).andExpect(status().isConflict());
+    }
+
+    @Test
+    void validateAnswersForActiveUsersOnly() throws Exception {
+        String email = uniqueEmail();
+        Map<?, ?> signedUp = objectMapper.readValue(
+                signup(email).andReturn().getResponse().getContentAsString(), Map.class);
+        String token = (String) signedUp.get("token");
+        Long id = ((Number) ((Map<?, ?>) signedUp.get("user")).get("id")).longValue();
+
+        mockMvc.perform(get("/api/auth/validate").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"))
+                .andExpect(jsonPath("$.id").value(id))
+                .andExpect(jsonPath("$.email").value(email))
+                .andExpect(jsonPath("$.role").value("STUDENT"));
+        mockMvc.perform(get("/api/auth/validate").header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/auth/validate"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/auth/validate").header(HttpHeaders.AUTHORIZATION, "Bearer not-a-token"))
+                .andExpect(status().isUnauthorized());
+
+        userService.updateStatus(id, "suspended");
+
+        mockMvc.perform(get("/api/auth/validate").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void suspendedAdminLosesAccessToUserManagement() throws Exception {
+        String email = uniqueEmail();
+        Map<?, ?> signedUp = objectMapper.readValue(
+                signup(email, "admin").andReturn().getResponse().getContentAsString(), Map.class);
+        String token = (String) signedUp.get("token");
+        Long id = ((Number) ((Map<?, ?>) signedUp.get("user")).get("id")).longValue();
+
+        mockMvc.perform(get("/api/users/search").param("q", email)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(id));
+
+        userService.updateStatus(id, "suspended");
+
+        mockMvc.perform(get("/api/users/search").param("q", email)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void userListingIsPaged() throws Exception {
+        Map<?, ?> signedUp = objectMapper.readValue(
+                signup(uniqueEmail(), "admin").andReturn().getResponse().getContentAsString(), Map.class);
+        String token = (String) signedUp.get("token");
+        signup(uniqueEmail()).andExpect(status().isOk());
+        signup(uniqueEmail()).andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/users").param("size", "2")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(header().exists("X-Total-Count"))
+                .andExpect(header().exists("X-Total-Count-Capped"));
+    }
+
+    @Test
+    void loginIsRefusedAfterRepeatedFailures() throws Exception {
+        String email = uniqueEmail();
+        signup(email).andExpect(status().isOk());
+
+        for (int i = 0; i < 5; i++) {
+            login(email, "wrong").andExpect(status().isUnauthorized());
+        }
+
+        login(email, "secret").andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+    }
+
+    private ResultActions signup(String email) throws Exception {
+        return signup(email, "student");
+    }
+
+    private ResultActions signup(String email, String role) throws Exception {
+        return mockMvc.perform(post("/api/auth/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new AuthController.SignupRequest("Test User", email, "secret", role))));
+    }
+
+    private ResultActions login(String email, String password) throws Exception {
+        return mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new AuthController.AuthRequest(email, password))));
+    }
+
+    private static String uniqueEmail() {
+        return UUID.randomUUID() + "@example.com";
+    }
+}
@@ -0,0 +1,97 @@
+package org.bits.assignment.user_service.security;
+
+import org.bits.assignment.user_service.exception.TooManyAttemptsException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginThrottleTest {
+
+    private final LoginThrottle throttle = new LoginThrottle(300, 3, 5, 1000);
+
+    @Test
+    void refusesAnEmailOnceItUsedUpItsFailures() {
+        for (int i = 0; i < 3; i++) {
+            throttle.reserveAttempt("alice@example.com", "10.0.0." + i);
+        }
+
+        assertThatThrownBy(() -> throttle.reserveAttempt(" Alice@Example.com ", "10.0.0.9"))
+                .isInstanceOf(TooManyAttemptsException.class);
+        assertThatCode(() -> throttle.reserveAttempt("bob@example.com", "10.0.0.9")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void refusesAnAddressOnceItUsedUpItsFailures() {
+        for (int i = 0; i < 5; i++) {
+            throttle.reserveAttempt("user" + i + "@example.com", "10.0.0.1");
+        }
+
+        assertThatThrownBy(() -> throttle.reserveAttempt("someone@example.com", "10.0.0.1"))
+                .isInstanceOf(TooManyAttemptsException.class);
+        assertThatCode(() -> throttle.reserveAttempt("someone@example.com", "10.0.0.2")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void successClearsTheEmailCount() {
+        throttle.reserveAttempt("alice@example.com", "10.0.0.1");
+        throttle.reserveAttempt("alice@example.com", "10.0.0.1");
+        throttle.recordSuccess("ALICE@example.com", "10.0.0.1");
+        throttle.reserveAttempt("alice@example.com", "10.0.0.1");
+        throttle.reserveAttempt("alice@example.com", "10.0.0.1");
+
+        assertThatCode(() -> throttle.reserveAttempt("alice@example.com", "10.0.0.1")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void releasedAttemptsDoNotCount() {
+        for (int i = 0; i < 5; i++) {
+            throttle.reserveAttempt("alice@example.com", "10.0.0.1");
+            throttle.releaseAttempt("alice@example.com", "10.0.0.1");
+        }
+
+        assertThatCode(() -> throttle.reserveAttempt("alice@example.com", "10.0.0.1")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void concurrentGuessesGetNoMoreThanTheLimit() throws Exception {
+        int guesses = 20;
+        ExecutorService guessers = Executors.newFixedThreadPool(guesses);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> outcomes = new ArrayList<>();
+            for (int i = 0; i < guesses; i++) {
+                String address = "10.0.1." + i;
+                outcomes.add(guessers.submit(() -> {
+                    start.await();
+                    try {
+                        throttle.reserveAttempt("alice@example.com", address);
+                        return true;
+                    } catch (TooManyAttemptsException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            int allowed = 0;
+            for (Future<Boolean> outcome : outcomes) {
+                if (outcome.get(5, TimeUnit.SECONDS)) {
+                    allowed++;
+                }
+            }
+            assertThat(allowed).isEqualTo(3);
+        } finally {
+            guessers.shutdownNow();
+        }
+    }
+}
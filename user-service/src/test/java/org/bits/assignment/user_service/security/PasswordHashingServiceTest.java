@@ -0,0 +1,145 @@
+package org.bits.assignment.user_service.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bits.assignment.user_service.exception.ServiceBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class PasswordHashingServiceTest {
+
+    private static final int THREADS = 4;
+
+    private final BlockingEncoder encoder = new BlockingEncoder();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        encoder.release();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void bulkHashingRecoversAfterBeingRefusedOnAFullQueue() throws Exception {
+        PasswordHashingService service = new PasswordHashingService(encoder, meterRegistry, THREADS, 2, 10_000);
+
+        // Each round fills one of the two queue slots, so one bulk task is queued and then
+        // cancelled when the second is refused; both permits must come back.
+        for (int round = 0; round < 2; round++) {
+            List<Future<String>> logins = saturate(service, 1);
+            assertThatThrownBy(() -> service.encodeAll(List.of("x", "y")))
+                    .isInstanceOf(ServiceBusyException.class);
+            encoder.release();
+            for (Future<String> login : logins) {
+                login.get(5, TimeUnit.SECONDS);
+            }
+        }
+
+        List<String> hashes = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> service.encodeAll(List.of("a", "b", "c")));
+        assertThat(hashes).containsExactly("hash:a", "hash:b", "hash:c");
+        service.shutdown();
+    }
+
+    @Test
+    void interactiveHashingIsRefusedOnceTheQueueIsFull() throws Exception {
+        PasswordHashingService service = new PasswordHashingService(encoder, meterRegistry, THREADS, 1, 10_000);
+        List<Future<String>> logins = saturate(service, 1);
+
+        assertThatThrownBy(() -> service.matches("secret", "hash:secret"))
+                .isInstanceOf(ServiceBusyException.class);
+        assertThatThrownBy(() -> service.encode("secret"))
+                .isInstanceOf(ServiceBusyException.class);
+        assertThat(meterRegistry.get("security.password.hash.rejected").counter().count()).isEqualTo(2);
+
+        encoder.release();
+        for (Future<String> login : logins) {
+            login.get(5, TimeUnit.SECONDS);
+        }
+        assertThat(service.matches("secret", "hash:secret")).isTrue();
+        service.shutdown();
+    }
+
+    /**
+     * Occupies every hashing thread and then queues {@code queued} more interactive hashes.
+     * The returned futures finish once the encoder is released. Hashes are submitted one at
+     * a time so a burst never races the workers for queue slots.
+     */
+    private List<Future<String>> saturate(PasswordHashingService service, int queued) throws InterruptedException {
+        encoder.block();
+        List<Future<String>> logins = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            logins.add(callers.submit(() -> service.encode("block")));
+            int running = i + 1;
+            awaitUntil(() -> encoder.entered.get() == running);
+        }
+        for (int i = 0; i < queued; i++) {
+            logins.add(callers.submit(() -> service.encode("block")));
+            int waiting = i + 1;
+            awaitUntil(() -> queued() == waiting);
+        }
+        return logins;
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private double queued() {
+        return meterRegistry.get("executor.queued").tag("name", "passwordHashing").gauge().value();
+    }
+
+    /** Encodes as {@code hash:<raw>}, holding "block" on the hashing thread until released. */
+    private static final class BlockingEncoder implements PasswordEncoder {
+
+        private final AtomicInteger entered = new AtomicInteger();
+        private volatile CountDownLatch gate = new CountDownLatch(0);
+
+        void block() {
+            entered.set(0);
+            gate = new CountDownLatch(1);
+        }
+
+        void release() {
+            gate.countDown();
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            if ("block".contentEquals(rawPassword)) {
+                entered.incrementAndGet();
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package org.bits.assignment.user_service.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.SignatureException;
+import org.bits.assignment.user_service.PostgresTestSupport;
+import org.bits.assignment.user_service.repository.SigningKeyRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Drives a separate SigningKeyService through a rotation on a simulated clock.
+ * The application's own instance is re-seeded afterwards.
+ */
+@SpringBootTest
+class SigningKeyServiceTest extends PostgresTestSupport {
+
+    private static final Duration ROTATION = Duration.ofHours(720);
+    private static final Duration PREPUBLISH = Duration.ofMinutes(15);
+    private static final Duration TOKEN_LIFETIME = Duration.ofHours(1);
+
+    @Autowired
+    private SigningKeyRepository signingKeyRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private SigningKeyService applicationKeys;
+
+    private SigningKeyService keys;
+
+    private final Instant start = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+    @BeforeEach
+    void setUp() {
+        signingKeyRepository.deleteAll();
+        keys = new SigningKeyService(signingKeyRepository, transactionTemplate, "test-secret",
+                ROTATION.toHours(), PREPUBLISH.toMinutes(), TOKEN_LIFETIME.toMillis());
+    }
+
+    @AfterEach
+    void restoreApplicationKeys() {
+        signingKeyRepository.deleteAll();
+        applicationKeys.refresh();
+    }
+
+    @Test
+    void firstRefreshCreatesTheSigningKey() {
+        keys.refresh(start);
+
+        assertThat(kids()).containsExactly(keys.signingKey().kid());
+    }
+
+    @Test
+    void successorIsPublishedBeforeItSignsAndTheOldKeyOutlivesItsTokens() {
+        keys.refresh(start);
+        String first = keys.signingKey().kid();
+        String oldToken = sign();
+
+        keys.refresh(start.plus(ROTATION).minus(PREPUBLISH));
+        assertThat(kids()).hasSize(2).contains(first);
+        assertThat(keys.signingKey().kid()).isEqualTo(first);
+
+        Instant activation = start.plus(ROTATION);
+        keys.refresh(activation);
+        String second = keys.signingKey().kid();
+        assertThat(second).isNotEqualTo(first);
+        assertThat(kids()).containsExactlyInAnyOrder(first, second);
+        assertThat(subjectOf(oldToken)).isEqualTo("alice@example.com");
+
+        keys.refresh(activation.plus(TOKEN_LIFETIME));
+        assertThat(kids()).contains(first);
+
+        keys.refresh(activation.plus(TOKEN_LIFETIME).plus(Duration.ofMinutes(6)));
+        assertThat(kids()).containsExactly(second);
+        assertThatThrownBy(() -> subjectOf(oldToken)).isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    void refreshBeforeTheKeyIsDueDoesNotRotate() {
+        keys.refresh(start);
+        String first = keys.signingKey().kid();
+
+        keys.refresh(start.plus(ROTATION).minus(PREPUBLISH).minusSeconds(1));
+
+        assertThat(kids()).containsExactly(first);
+        assertThat(signingKeyRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentStartupsCreateASingleKey() throws Exception {
+        int replicas = 4;
+        CountDownLatch ready = new CountDownLatch(replicas);
+        ExecutorService startups = Executors.newFixedThreadPool(replicas);
+        try {
+            List<Future<?>> refreshes = new ArrayList<>();
+            for (int i = 0; i < replicas; i++) {
+                SigningKeyService replica = new SigningKeyService(signingKeyRepository, transactionTemplate, "test-secret",
+                        ROTATION.toHours(), PREPUBLISH.toMinutes(), TOKEN_LIFETIME.toMillis());
+                refreshes.add(startups.submit(() -> {
+                    ready.countDown();
+                    ready.await();
+                    replica.refresh(start);
+                    return null;
+                }));
+            }
+            for (Future<?> refresh : refreshes) {
+                refresh.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            startups.shutdownNow();
+        }
+
+        assertThat(signingKeyRepository.count()).isEqualTo(1);
+    }
+
+    private String sign() {
+        SigningKeyService.ActiveKey active = keys.signingKey();
+        return Jwts.builder()
+                .setHeaderParam("kid", active.kid())
+                .setSubject("alice@example.com")
+                .signWith(active.privateKey(), SignatureAlgorithm.RS256)
+                .compact();
+    }
+
+    private String subjectOf(String token) {
+        return Jwts.parserBuilder().setSigningKeyResolver(keys).build().parseClaimsJws(token).getBody().getSubject();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> kids() {
+        List<Map<String, String>> jwks = (List<Map<String, String>>) keys.jwks().get("keys");
+        return jwks.stream().map(jwk -> jwk.get("kid")).toList();
+    }
+}
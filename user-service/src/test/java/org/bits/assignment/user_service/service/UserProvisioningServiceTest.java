@@ -0,0 +1,47 @@
+package org.bits.assignment.user_service.service;
+
+import org.bits.assignment.user_service.PostgresTestSupport;
+import org.bits.assignment.user_service.entity.User;
+import org.bits.assignment.user_service.repository.UserRepository;
+import org.bits.assignment.user_service.service.UserProvisioningService.ProvisioningResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class UserProvisioningServiceTest extends PostgresTestSupport {
+
+    @Autowired
+    private UserProvisioningService userProvisioningService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void provisionedUsersTakeConsecutiveIdsAndDuplicatesAreReported() throws Exception {
+        String tag = UUID.randomUUID().toString();
+        List<String> emails = List.of("a-" + tag + "@example.com", "b-" + tag + "@example.com", "c-" + tag + "@example.com");
+        String csv = "name,email,password,role\n"
+                + "A," + emails.get(0) + ",secret,student\n"
+                + "B," + emails.get(1) + ",secret,staff\n"
+                + "A again," + emails.get(0) + ",secret,student\n"
+                + "C," + emails.get(2) + ",secret,student\n";
+
+        ProvisioningResult result = userProvisioningService.provisionCsv(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.created()).isEqualTo(3);
+        assertThat(result.duplicates()).isEqualTo(1);
+        List<Long> ids = emails.stream()
+                .map(email -> userRepository.findByEmail(email).map(User::getId).orElseThrow())
+                .toList();
+        assertThat(ids).containsExactly(ids.get(0), ids.get(0) + 1, ids.get(0) + 2);
+    }
+}
@@ -0,0 +1,91 @@
+package org.bits.assignment.user_service.service;
+
+import org.bits.assignment.user_service.PostgresTestSupport;
+import org.bits.assignment.user_service.entity.User;
+import org.bits.assignment.user_service.service.UserService.UserSearchResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "users.search.count-cap=4")
+class UserServiceTest extends PostgresTestSupport {
+
+    @Autowired
+    private UserService userService;
+
+    private String tag;
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        tag = "t" + UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+        for (int i = 0; i < 3; i++) {
+            ids.add(signup("Student " + tag + " " + i, "STUDENT"));
+        }
+        ids.add(signup("Staff " + tag, "STAFF"));
+    }
+
+    @Test
+    void searchPagesThroughMatchesInIdOrder() {
+        UserSearchResult first = userService.searchUsers(tag.toUpperCase(), "all", 0, 3);
+        UserSearchResult second = userService.searchUsers(tag, "all", 1, 3);
+
+        assertThat(first.users()).extracting(User::getId).containsExactlyElementsOf(ids.subList(0, 3));
+        assertThat(second.users()).extracting(User::getId).containsExactly(ids.get(3));
+        assertThat(first.total()).isEqualTo(4);
+        assertThat(first.totalCapped()).isFalse();
+    }
+
+    @Test
+    void signupsTakeConsecutiveIds() {
+        assertThat(ids).containsExactly(ids.get(0), ids.get(0) + 1, ids.get(0) + 2, ids.get(0) + 3);
+    }
+
+    @Test
+    void searchFiltersByRole() {
+        UserSearchResult staff = userService.searchUsers(tag, "staff", 0, null);
+
+        assertThat(staff.users()).extracting(User::getId).containsExactly(ids.get(3));
+        assertThat(staff.total()).isEqualTo(1);
+    }
+
+    @Test
+    void shortQueriesMatchAnywhereInTheName() {
+        Long alice = signup("Alice " + tag, "STUDENT");
+
+        assertThat(userService.searchUsers("LI", "all", 0, 200).users()).extracting(User::getId).contains(alice);
+    }
+
+    @Test
+    void searchTreatsLikeWildcardsLiterally() {
+        assertThat(userService.searchUsers(tag.substring(0, 4) + "%", "all", 0, null).users()).isEmpty();
+    }
+
+    @Test
+    void totalStopsCountingAtTheCap() {
+        signup("Student " + tag + " extra", "STUDENT");
+
+        UserSearchResult result = userService.searchUsers(tag, "all", 0, 2);
+
+        assertThat(result.users()).hasSize(2);
+        assertThat(result.total()).isEqualTo(4);
+        assertThat(result.totalCapped()).isTrue();
+    }
+
+    private Long signup(String name, String role) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(UUID.randomUUID() + "@example.com");
+        user.setPassword("secret");
+        user.setRole(role);
+        user.setStatus("active");
+        return userService.signup(user).getId();
+    }
+}